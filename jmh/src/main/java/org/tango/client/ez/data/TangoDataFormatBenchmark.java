@@ -0,0 +1,93 @@
+package org.tango.client.ez.data;
+
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.TangoApi.DeviceAttribute;
+import fr.esrf.TangoDs.TangoConst;
+import org.openjdk.jmh.annotations.*;
+import org.tango.client.ez.data.format.TangoDataFormat;
+import org.tango.client.ez.data.type.TangoImage;
+import org.tango.client.ez.data.type.ValueExtractionException;
+import org.tango.client.ez.data.type.ValueInsertionException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction and insertion of double scalar, spectrum and image values through {@link TangoDataFormat},
+ * i.e. the path every read and write of {@link org.tango.client.ez.proxy.TangoProxy} takes.
+ * <p/>
+ * Values are held by in-memory {@link DeviceAttribute}s, so no Tango server is required.
+ *
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TangoDataFormatBenchmark {
+    /**
+     * Spectrum length; image is size x size
+     */
+    @Param({"16", "1024"})
+    public int size;
+
+    private final TangoDataFormat<Double> scalarFormat = TangoDataFormat.createScalarDataFormat();
+    private final TangoDataFormat<double[]> spectrumFormat = TangoDataFormat.createSpectrumDataFormat();
+    private final TangoDataFormat<TangoImage<double[]>> imageFormat = TangoDataFormat.createImageDataFormat();
+
+    private DeviceAttribute scalar;
+    private DeviceAttribute spectrum;
+    private DeviceAttribute image;
+    private DeviceAttribute target;
+
+    private double[] spectrumValue;
+    private TangoImage<double[]> imageValue;
+
+    @Setup
+    public void setup() throws DevFailed {
+        spectrumValue = new double[size];
+        for (int i = 0; i < size; i++) spectrumValue[i] = i;
+        double[] imageData = new double[size * size];
+        for (int i = 0; i < imageData.length; i++) imageData[i] = i;
+        imageValue = new TangoImage<double[]>(imageData, size, size);
+
+        scalar = new DeviceAttribute("scalar", Math.PI);
+        spectrum = new DeviceAttribute("spectrum", spectrumValue, size, 0);
+        image = new DeviceAttribute("image", imageData, size, size);
+        target = new DeviceAttribute("target");
+    }
+
+    @Benchmark
+    public Double extractScalar() throws ValueExtractionException {
+        return scalarFormat.extract(TangoDataWrapper.create(scalar, null));
+    }
+
+    @Benchmark
+    public double[] extractSpectrum() throws ValueExtractionException {
+        return spectrumFormat.extract(TangoDataWrapper.create(spectrum, null));
+    }
+
+    @Benchmark
+    public TangoImage<double[]> extractImage() throws ValueExtractionException {
+        return imageFormat.extract(TangoDataWrapper.create(image, null));
+    }
+
+    @Benchmark
+    public DeviceAttribute insertScalar() throws ValueInsertionException {
+        scalarFormat.insert(TangoDataWrapper.create(target, null), Math.PI, TangoConst.Tango_DEV_DOUBLE);
+        return target;
+    }
+
+    @Benchmark
+    public DeviceAttribute insertSpectrum() throws ValueInsertionException {
+        spectrumFormat.insert(TangoDataWrapper.create(target, null), spectrumValue, TangoConst.Tango_DEV_DOUBLE);
+        return target;
+    }
+
+    @Benchmark
+    public DeviceAttribute insertImage() throws ValueInsertionException {
+        imageFormat.insert(TangoDataWrapper.create(target, null), imageValue, TangoConst.Tango_DEV_DOUBLE);
+        return target;
+    }
+}
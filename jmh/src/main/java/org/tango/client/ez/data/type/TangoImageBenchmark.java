@@ -0,0 +1,85 @@
+package org.tango.client.ez.data.type;
+
+import org.openjdk.jmh.annotations.*;
+import org.tango.client.ez.util.TangoImageUtils;
+
+import java.awt.image.RenderedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions of {@link TangoImage}: 1D data to 2D arrays and back, views and to {@link RenderedImage}.
+ *
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TangoImageBenchmark {
+    /**
+     * Image is size x size
+     */
+    @Param({"64", "1024"})
+    public int size;
+
+    /**
+     * Value of {@link ImageTangoDataTypes#TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING}
+     */
+    @Param({"false", "true"})
+    public boolean multithreading;
+
+    private TangoImage<int[]> image;
+    private TangoImage<float[]> grayImage;
+    private int[][] image2D;
+
+    @Setup
+    public void setup() {
+        System.setProperty(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING, String.valueOf(multithreading));
+        int[] data = new int[size * size];
+        float[] grayData = new float[size * size];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+            grayData[i] = i;
+        }
+        image = new TangoImage<int[]>(data, size, size);
+        grayImage = new TangoImage<float[]>(grayData, size, size);
+        image2D = image.to2DArray();
+    }
+
+    @Benchmark
+    public int[][] to2DArray() {
+        return image.to2DArray();
+    }
+
+    @Benchmark
+    public long roiSum() {
+        TangoImageView<int[]> roi = image.roi(size / 4, size / 4, 32, 32);
+        long result = 0;
+        for (int y = 0; y < roi.getHeight(); y++)
+            for (int x = 0; x < roi.getWidth(); x++)
+                result += roi.getLong(x, y);
+        return result;
+    }
+
+    @Benchmark
+    public int[][] transposeTo2DArray() {
+        return image.transpose().to2DArray();
+    }
+
+    @Benchmark
+    public TangoImage<int[]> from2DArray() {
+        return TangoImage.from2DArray(image2D);
+    }
+
+    @Benchmark
+    public RenderedImage toRenderedImage_sRGB() {
+        return image.toRenderedImage_sRGB();
+    }
+
+    @Benchmark
+    public RenderedImage toRenderedImageDedicatedComponents_GRAY() {
+        return TangoImageUtils.toRenderedImageDedicatedComponents_GRAY(grayImage.getData(), size, size);
+    }
+}
@@ -0,0 +1,61 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.TangoApi.DeviceAttribute;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan out of a single double spectrum event to listenerCount listeners by {@link TangoEventDispatcher},
+ * excluding Tango event reception.
+ *
+ * @since 17.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TangoEventDispatcherBenchmark {
+    @Param({"1", "16"})
+    public int listenerCount;
+
+    @Param({"1", "1024"})
+    public int size;
+
+    private TangoEventDispatcher<double[]> dispatcher;
+    private DeviceAttribute event;
+    /**
+     * Strong references, dispatcher holds listeners weakly
+     */
+    private TangoEventListener<double[]>[] listeners;
+
+    @Setup
+    public void setup(final Blackhole blackhole) throws DevFailed {
+        dispatcher = new TangoEventDispatcher<double[]>();
+        listeners = new TangoEventListener[listenerCount];
+        for (int i = 0; i < listenerCount; i++) {
+            listeners[i] = new TangoEventListener<double[]>() {
+                @Override
+                public void onEvent(EventData<double[]> data) {
+                    blackhole.consume(data);
+                }
+
+                @Override
+                public void onError(Exception cause) {
+                    throw new IllegalStateException(cause);
+                }
+            };
+            dispatcher.addListener(listeners[i]);
+        }
+        event = new DeviceAttribute("event", new double[size], size, 0);
+    }
+
+    @Benchmark
+    public void dispatch() {
+        dispatcher.dispatch(event);
+    }
+}
@@ -0,0 +1,43 @@
+package org.tango.client.ez.util;
+
+import fr.esrf.Tango.DevError;
+import fr.esrf.Tango.ErrSeverity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link TangoUtils#createDevError(String, String)} with and without origin capture compared to
+ * the former Thread.getAllStackTraces() based capture.
+ * <p/>
+ * Runs with several threads because getAllStackTraces brings all of them to a safepoint, run with -t 1 to see single thread cost.
+ *
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TangoUtilsBenchmark {
+    @Benchmark
+    public DevError allStackTraces() {
+        StackTraceElement[] traceElements = Thread.getAllStackTraces().get(Thread.currentThread());
+        return new DevError("reason", ErrSeverity.ERR, "description",
+                Arrays.toString(Arrays.copyOfRange(traceElements, 2, traceElements.length > 5 ? 5 : traceElements.length)));
+    }
+
+    @Benchmark
+    public DevError stackWalker() {
+        return TangoUtils.createDevError("reason", "description");
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + TangoUtils.TANGO_DEV_ERROR_CAPTURES_ORIGIN + "=false")
+    public DevError noOrigin() {
+        return TangoUtils.createDevError("reason", "description");
+    }
+}
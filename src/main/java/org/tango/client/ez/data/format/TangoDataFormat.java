@@ -49,6 +49,11 @@ import org.tango.client.ez.data.type.ValueInsertionException;
  * @since 04.06.12
  */
 public abstract class TangoDataFormat<T> {
+    private static final TangoDataFormat<?> SCALAR = new ScalarTangoDataFormat<Object>(AttrDataFormat._SCALAR, "Scalar");
+    private static final TangoDataFormat<?> SPECTRUM = new SpectrumTangoDataFormat<Object>(AttrDataFormat._SPECTRUM, "Spectrum");
+    private static final TangoDataFormat<?> IMAGE = new ImageTangoDataFormat<Object>(AttrDataFormat._IMAGE, "Image");
+    private static final TangoDataFormat<?> FMT_UNKNOWN = new UnknownTangoDataFormat<Object>(AttrDataFormat._FMT_UNKNOWN, "Unknown format");
+
     /**
      * int code of {@link AttrDataFormat}
      */
@@ -80,33 +85,34 @@ public abstract class TangoDataFormat<T> {
     }
 
     /**
-     * Creates a new TangoDataFormat.
+     * Returns TangoDataFormat for alias. Formats are stateless, so instances for known aliases are shared.
      *
      * @param alias int alias
      * @param <T>   type of underlying value
-     * @return TangoDataFormat
-     * @throws NullPointerException if no format was found for alias
+     * @return shared TangoDataFormat or a new {@link UnknownTangoDataFormat} if alias is not known
      */
+    @SuppressWarnings("unchecked")
     public static <T> TangoDataFormat<T> createForAlias(int alias) {
         switch (alias) {
             case AttrDataFormat._SCALAR:
-                return new ScalarTangoDataFormat<T>(alias, "Scalar");
+                return (TangoDataFormat<T>) SCALAR;
             case AttrDataFormat._SPECTRUM:
-                return new SpectrumTangoDataFormat<T>(alias, "Spectrum");
+                return (TangoDataFormat<T>) SPECTRUM;
             case AttrDataFormat._IMAGE:
-                return new ImageTangoDataFormat<T>(alias, "Image");
+                return (TangoDataFormat<T>) IMAGE;
             case AttrDataFormat._FMT_UNKNOWN:
+                return (TangoDataFormat<T>) FMT_UNKNOWN;
             default:
                 return new UnknownTangoDataFormat<T>(alias, "Unknown format");
         }
     }
 
     /**
-     * Creates a new TangoDataFormat.
+     * Returns TangoDataFormat for attrDataFormat, same as {@link #createForAlias(int)}.
      *
      * @param attrDataFormat AttrDataFormat instance
      * @param <T>            type of underlying value
-     * @return TangoDataFormat
+     * @return shared TangoDataFormat or a new {@link UnknownTangoDataFormat} if attrDataFormat is not known
      */
     public static <T> TangoDataFormat<T> createForAttrDataFormat(AttrDataFormat attrDataFormat) {
         return createForAlias(attrDataFormat.value());
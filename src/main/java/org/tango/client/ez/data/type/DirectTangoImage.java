@@ -0,0 +1,256 @@
+package org.tango.client.ez.data.type;
+
+import com.google.common.base.Preconditions;
+
+import java.awt.image.RenderedImage;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Off-heap counterpart of {@link TangoImage}: pixels are kept in a direct {@link ByteBuffer} of native byte order,
+ * so that large or long living frames do not occupy Java heap and can be handed over to native code or NIO channels as is.
+ * <p/>
+ * Pixels are accessed through typed views, i.e. {@link #asFloatBuffer()} for float images. Instances are meant to be refilled
+ * in place, see {@link #copyFrom(TangoImage)} and {@link org.tango.client.ez.proxy.TangoProxy#readAttributeInto(String, DirectTangoImage)},
+ * and may be recycled via {@link DirectTangoImagePool}.
+ * <p/>
+ * Component type is the one of the array {@link TangoImage#getData()} holds for the same attribute, i.e. int.class for DevUShort.
+ * <p/>
+ * Not thread safe.
+ *
+ * @since 17.10.2026
+ */
+public final class DirectTangoImage {
+    private final ByteBuffer buffer;
+    private final Class<?> componentType;
+    private final int width;
+    private final int height;
+
+    private DirectTangoImage(ByteBuffer buffer, Class<?> componentType, int width, int height) {
+        this.buffer = buffer;
+        this.componentType = componentType;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @param componentType one of byte, short, int, long, float, double
+     * @param width         px
+     * @param height        px
+     * @return a new zero filled image
+     * @throws java.lang.IllegalArgumentException if componentType is not supported
+     */
+    public static DirectTangoImage allocate(Class<?> componentType, int width, int height) {
+        return new DirectTangoImage(ByteBuffer.allocateDirect(byteSize(componentType, width, height)), componentType, width, height);
+    }
+
+    /**
+     * Uses the given buffer as a storage of the image, i.e. one taken from a user managed pool
+     *
+     * @param buffer        direct buffer of at least width*height elements of componentType
+     * @param componentType one of byte, short, int, long, float, double
+     * @param width         px
+     * @param height        px
+     * @return a new image backed by buffer
+     * @throws java.lang.IllegalArgumentException if buffer is not direct or is too small; if componentType is not supported
+     */
+    public static DirectTangoImage wrap(ByteBuffer buffer, Class<?> componentType, int width, int height) {
+        Preconditions.checkArgument(buffer.isDirect(), "Direct buffer is expected here!");
+        int byteSize = byteSize(componentType, width, height);
+        Preconditions.checkArgument(buffer.capacity() >= byteSize, "buffer capacity %s is less than %s", buffer.capacity(), byteSize);
+        return new DirectTangoImage(buffer, componentType, width, height);
+    }
+
+    /**
+     * @param image heap image
+     * @return a new off-heap copy of image
+     * @throws java.lang.IllegalArgumentException if image data is not a supported primitive array
+     */
+    public static DirectTangoImage copyOf(TangoImage<?> image) {
+        Object data = image.getData();
+        Preconditions.checkArgument(data.getClass().isArray(), "Array is expected here!");
+        return allocate(data.getClass().getComponentType(), image.getWidth(), image.getHeight()).copyFrom(data);
+    }
+
+    /**
+     * Overwrites pixels of this image
+     *
+     * @param image of the same dimensions and component type
+     * @return this
+     * @throws java.lang.IllegalArgumentException if image does not match this one
+     */
+    public DirectTangoImage copyFrom(TangoImage<?> image) {
+        Preconditions.checkArgument(image.getWidth() == width && image.getHeight() == height,
+                "image is %sx%s while %sx%s is expected", image.getWidth(), image.getHeight(), width, height);
+        return copyFrom(image.getData());
+    }
+
+    /**
+     * Overwrites pixels of this image
+     *
+     * @param data one dimensional array of componentType of at least width*height elements
+     * @return this
+     * @throws java.lang.IllegalArgumentException if data does not match this image
+     */
+    public DirectTangoImage copyFrom(Object data) {
+        Preconditions.checkArgument(data.getClass().isArray() && data.getClass().getComponentType() == componentType,
+                "%s[] is expected here!", componentType);
+        int size = getSize();
+        Preconditions.checkArgument(Array.getLength(data) >= size, "data has less than %s elements", size);
+        if (componentType == byte.class) asByteBuffer().put((byte[]) data, 0, size);
+        else if (componentType == short.class) asShortBuffer().put((short[]) data, 0, size);
+        else if (componentType == int.class) asIntBuffer().put((int[]) data, 0, size);
+        else if (componentType == long.class) asLongBuffer().put((long[]) data, 0, size);
+        else if (componentType == float.class) asFloatBuffer().put((float[]) data, 0, size);
+        else asDoubleBuffer().put((double[]) data, 0, size);
+        return this;
+    }
+
+    /**
+     * @param dst one dimensional array of componentType of at least width*height elements
+     * @return dst
+     * @throws java.lang.IllegalArgumentException if dst does not match this image
+     */
+    public Object copyTo(Object dst) {
+        Preconditions.checkArgument(dst.getClass().isArray() && dst.getClass().getComponentType() == componentType,
+                "%s[] is expected here!", componentType);
+        int size = getSize();
+        Preconditions.checkArgument(Array.getLength(dst) >= size, "dst has less than %s elements", size);
+        if (componentType == byte.class) asByteBuffer().get((byte[]) dst, 0, size);
+        else if (componentType == short.class) asShortBuffer().get((short[]) dst, 0, size);
+        else if (componentType == int.class) asIntBuffer().get((int[]) dst, 0, size);
+        else if (componentType == long.class) asLongBuffer().get((long[]) dst, 0, size);
+        else if (componentType == float.class) asFloatBuffer().get((float[]) dst, 0, size);
+        else asDoubleBuffer().get((double[]) dst, 0, size);
+        return dst;
+    }
+
+    /**
+     * @param <V> primitive array of componentType
+     * @return a new heap copy of this image
+     */
+    public <V> TangoImage<V> toTangoImage() {
+        return new TangoImage<V>((V) copyTo(Array.newInstance(componentType, getSize())), width, height);
+    }
+
+    /**
+     * Java2D rasters are heap backed, so pixels are copied on heap, see {@link TangoImage#toRenderedImage_sRGB()}
+     */
+    public RenderedImage toRenderedImage_sRGB() {
+        return toTangoImage().toRenderedImage_sRGB();
+    }
+
+    /**
+     * Java2D rasters are heap backed, so pixels are copied on heap, see {@link TangoImage#toRenderedImage_ARGB()}
+     */
+    public RenderedImage toRenderedImage_ARGB() {
+        return toTangoImage().toRenderedImage_ARGB();
+    }
+
+    /**
+     * Java2D rasters are heap backed, so pixels are copied on heap, see {@link TangoImage#toRenderedImage_GRAY()}
+     */
+    public RenderedImage toRenderedImage_GRAY() {
+        return toTangoImage().toRenderedImage_GRAY();
+    }
+
+    /**
+     * @return a new native ordered view of width*height*elementSize bytes, position is 0
+     */
+    public ByteBuffer asByteBuffer() {
+        ByteBuffer result = buffer.duplicate().order(ByteOrder.nativeOrder());
+        result.clear().limit(byteSize(componentType, width, height));
+        return result;
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException if this is not a short image
+     */
+    public ShortBuffer asShortBuffer() {
+        checkComponentType(short.class);
+        return asByteBuffer().asShortBuffer();
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException if this is not an int image
+     */
+    public IntBuffer asIntBuffer() {
+        checkComponentType(int.class);
+        return asByteBuffer().asIntBuffer();
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException if this is not a long image
+     */
+    public LongBuffer asLongBuffer() {
+        checkComponentType(long.class);
+        return asByteBuffer().asLongBuffer();
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException if this is not a float image
+     */
+    public FloatBuffer asFloatBuffer() {
+        checkComponentType(float.class);
+        return asByteBuffer().asFloatBuffer();
+    }
+
+    /**
+     * @throws java.lang.IllegalStateException if this is not a double image
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        checkComponentType(double.class);
+        return asByteBuffer().asDoubleBuffer();
+    }
+
+    /**
+     * @return underlying buffer as is, i.e. to return it into a user managed pool
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public Class<?> getComponentType() {
+        return componentType;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of pixels
+     */
+    public int getSize() {
+        return width * height;
+    }
+
+    private void checkComponentType(Class<?> expected) {
+        Preconditions.checkState(componentType == expected, "This is %s image", componentType);
+    }
+
+    static int byteSize(Class<?> componentType, int width, int height) {
+        Preconditions.checkArgument(width >= 0 && height >= 0, "Negative dimensions %sx%s", width, height);
+        return Math.multiplyExact(Math.multiplyExact(width, height), elementSize(componentType));
+    }
+
+    private static int elementSize(Class<?> componentType) {
+        if (componentType == byte.class) return Byte.BYTES;
+        if (componentType == short.class) return Short.BYTES;
+        if (componentType == int.class) return Integer.BYTES;
+        if (componentType == long.class) return Long.BYTES;
+        if (componentType == float.class) return Float.BYTES;
+        if (componentType == double.class) return Double.BYTES;
+        throw new IllegalArgumentException("Unsupported component type: " + componentType);
+    }
+}
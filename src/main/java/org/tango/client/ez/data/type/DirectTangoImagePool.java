@@ -0,0 +1,70 @@
+package org.tango.client.ez.data.type;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Recycles direct buffers of {@link DirectTangoImage}s, as allocation of direct memory is expensive and
+ * it is reclaimed only when GC collects the owning buffer.
+ * <p/>
+ * Buffers are grouped by byte size, so that images of the same dimensions and component type share buffers.
+ * At most maxIdle buffers per size are kept, the rest are left to GC.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+public final class DirectTangoImagePool {
+    private final int maxIdle;
+    private final ConcurrentMap<Integer, BlockingQueue<ByteBuffer>> idle = new ConcurrentHashMap<Integer, BlockingQueue<ByteBuffer>>();
+
+    /**
+     * @param maxIdle max number of idle buffers kept per byte size
+     */
+    public DirectTangoImagePool(int maxIdle) {
+        if (maxIdle < 1) throw new IllegalArgumentException("maxIdle must be positive: " + maxIdle);
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Content of the returned image is undefined, i.e. it may contain pixels of the previously released image
+     *
+     * @param componentType one of byte, short, int, long, float, double
+     * @param width         px
+     * @param height        px
+     * @return pooled or newly allocated image
+     */
+    public DirectTangoImage acquire(Class<?> componentType, int width, int height) {
+        int byteSize = DirectTangoImage.byteSize(componentType, width, height);
+        BlockingQueue<ByteBuffer> buffers = idle.get(byteSize);
+        ByteBuffer buffer = buffers == null ? null : buffers.poll();
+        if (buffer == null) return DirectTangoImage.allocate(componentType, width, height);
+        return DirectTangoImage.wrap(buffer, componentType, width, height);
+    }
+
+    /**
+     * Returns buffer of the image into this pool. Image must not be used afterwards.
+     *
+     * @param image acquired from this pool
+     */
+    public void release(DirectTangoImage image) {
+        ByteBuffer buffer = image.getBuffer();
+        BlockingQueue<ByteBuffer> buffers = idle.get(buffer.capacity());
+        if (buffers == null) {
+            BlockingQueue<ByteBuffer> created = new ArrayBlockingQueue<ByteBuffer>(maxIdle);
+            buffers = idle.putIfAbsent(buffer.capacity(), created);
+            if (buffers == null) buffers = created;
+        }
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Drops all idle buffers
+     */
+    public void clear() {
+        idle.clear();
+    }
+}
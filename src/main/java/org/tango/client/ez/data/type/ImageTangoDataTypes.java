@@ -52,6 +52,10 @@ import java.util.Collection;
  */
 public class ImageTangoDataTypes {
     public static final String TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING = "tango.image.extracter.use.multithreading";
+    /**
+     * Number of threads converting images when {@link #TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING} is set; common fork-join pool is used by default
+     */
+    public static final String TANGO_IMAGE_EXTRACTER_PARALLELISM = "tango.image.extracter.parallelism";
     public static final TangoDataType<TangoImage<float[]>> FLOAT_IMAGE = new ImageTangoDataType<TangoImage<float[]>, float[]>(
             TangoConst.Tango_DEV_FLOAT, "DevFloatImage", (Class<TangoImage<float[]>>)(Class<?>)TangoImage.class, new ValueExtracter<float[]>() {
         @Override
@@ -0,0 +1,29 @@
+package org.tango.client.ez.data.type;
+
+import org.tango.client.ez.data.TangoDataWrapper;
+
+/**
+ * {@link ValueExtracter} of numeric and boolean scalars that can also extract value as a primitive, i.e. without boxing.
+ * <p/>
+ * Implementations override only those methods that do not lose precision, i.e. DevFloat can be extracted as double
+ * but not as long, while DevLong64 can be extracted as long but not as double or int.
+ *
+ * @since 17.10.2026
+ */
+public interface PrimitiveValueExtracter<V> extends ValueExtracter<V> {
+    default double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+        throw new ValueExtractionException("Value can not be extracted as double");
+    }
+
+    default long extractLong(TangoDataWrapper data) throws ValueExtractionException {
+        throw new ValueExtractionException("Value can not be extracted as long");
+    }
+
+    default int extractInt(TangoDataWrapper data) throws ValueExtractionException {
+        throw new ValueExtractionException("Value can not be extracted as int");
+    }
+
+    default boolean extractBoolean(TangoDataWrapper data) throws ValueExtractionException {
+        throw new ValueExtractionException("Value can not be extracted as boolean");
+    }
+}
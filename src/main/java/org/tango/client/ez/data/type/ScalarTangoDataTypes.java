@@ -135,9 +135,14 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_BOOLEAN = "DevBoolean";
     public static final TangoDataType<Boolean> BOOLEAN = new ScalarTangoDataType<Boolean>(
-            TangoConst.Tango_DEV_BOOLEAN, DEV_BOOLEAN, boolean.class, Boolean.class, new ValueExtracter<Boolean>() {
+            TangoConst.Tango_DEV_BOOLEAN, DEV_BOOLEAN, boolean.class, Boolean.class, new PrimitiveValueExtracter<Boolean>() {
         @Override
         public Boolean extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractBoolean(data);
+        }
+
+        @Override
+        public boolean extractBoolean(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractBoolean();
             } catch (DevFailed devFailed) {
@@ -153,9 +158,14 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_DOUBLE = "DevDouble";
     public static final TangoDataType<Double> DOUBLE = new ScalarTangoDataType<Double>(
-            TangoConst.Tango_DEV_DOUBLE, DEV_DOUBLE, double.class, Double.class, new ValueExtracter<Double>() {
+            TangoConst.Tango_DEV_DOUBLE, DEV_DOUBLE, double.class, Double.class, new PrimitiveValueExtracter<Double>() {
         @Override
         public Double extract(TangoDataWrapper input) throws ValueExtractionException {
+            return extractDouble(input);
+        }
+
+        @Override
+        public double extractDouble(TangoDataWrapper input) throws ValueExtractionException {
             try {
                 return input.extractDouble();
             } catch (DevFailed devFailed) {
@@ -171,15 +181,24 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_FLOAT = "DevFloat";
     public static final TangoDataType<Float> FLOAT = new ScalarTangoDataType<Float>(
-            TangoConst.Tango_DEV_FLOAT, DEV_FLOAT, float.class, Float.class, new ValueExtracter<Float>() {
+            TangoConst.Tango_DEV_FLOAT, DEV_FLOAT, float.class, Float.class, new PrimitiveValueExtracter<Float>() {
         @Override
         public Float extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractFloat(data);
+        }
+
+        private float extractFloat(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractFloat();
             } catch (DevFailed devFailed) {
                 throw new ValueExtractionException(TangoUtils.convertDevFailedToException(devFailed));
             }
         }
+
+        @Override
+        public double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+            return extractFloat(data);
+        }
     },
             new ValueInserter<Float>() {
                 @Override
@@ -189,15 +208,34 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_SHORT = "DevShort";
     public static final TangoDataType<Short> SHORT = new ScalarTangoDataType<Short>(
-            TangoConst.Tango_DEV_SHORT, DEV_SHORT, short.class, Short.class, new ValueExtracter<Short>() {
+            TangoConst.Tango_DEV_SHORT, DEV_SHORT, short.class, Short.class, new PrimitiveValueExtracter<Short>() {
         @Override
         public Short extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractShort(data);
+        }
+
+        private short extractShort(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractShort();
             } catch (DevFailed devFailed) {
                 throw new ValueExtractionException(TangoUtils.convertDevFailedToException(devFailed));
             }
         }
+
+        @Override
+        public int extractInt(TangoDataWrapper data) throws ValueExtractionException {
+            return extractShort(data);
+        }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
+            return extractShort(data);
+        }
+
+        @Override
+        public double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+            return extractShort(data);
+        }
     },
             new ValueInserter<Short>() {
                 @Override
@@ -207,15 +245,30 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_USHORT = "DevUShort";
     public static final TangoDataType<Integer> U_SHORT = new ScalarTangoDataType<Integer>(
-            TangoConst.Tango_DEV_USHORT, DEV_USHORT, int.class, Integer.class, new ValueExtracter<Integer>() {
+            TangoConst.Tango_DEV_USHORT, DEV_USHORT, int.class, Integer.class, new PrimitiveValueExtracter<Integer>() {
         @Override
         public Integer extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
+
+        @Override
+        public int extractInt(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractUShort();
             } catch (DevFailed devFailed) {
                 throw new ValueExtractionException(TangoUtils.convertDevFailedToException(devFailed));
             }
         }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
+
+        @Override
+        public double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
     },
             new ValueInserter<Integer>() {
                 @Override
@@ -225,15 +278,30 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_LONG = "DevLong";
     public static final TangoDataType<Integer> INT = new ScalarTangoDataType<Integer>(
-            TangoConst.Tango_DEV_LONG, DEV_LONG, int.class, Integer.class, new ValueExtracter<Integer>() {
+            TangoConst.Tango_DEV_LONG, DEV_LONG, int.class, Integer.class, new PrimitiveValueExtracter<Integer>() {
         @Override
         public Integer extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
+
+        @Override
+        public int extractInt(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractLong();
             } catch (DevFailed devFailed) {
                 throw new ValueExtractionException(TangoUtils.convertDevFailedToException(devFailed));
             }
         }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
+
+        @Override
+        public double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+            return extractInt(data);
+        }
     },
             new ValueInserter<Integer>() {
                 @Override
@@ -243,15 +311,25 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_ULONG = "DevULong";
     public static final TangoDataType<Long> U_INT = new ScalarTangoDataType<Long>(
-            TangoConst.Tango_DEV_ULONG, DEV_ULONG, long.class, Long.class, new ValueExtracter<Long>() {
+            TangoConst.Tango_DEV_ULONG, DEV_ULONG, long.class, Long.class, new PrimitiveValueExtracter<Long>() {
         @Override
         public Long extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractLong(data);
+        }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractULong();
             } catch (DevFailed devFailed) {
                 throw new ValueExtractionException(TangoUtils.convertDevFailedToException(devFailed));
             }
         }
+
+        @Override
+        public double extractDouble(TangoDataWrapper data) throws ValueExtractionException {
+            return extractLong(data);
+        }
     },
             new ValueInserter<Long>() {
                 @Override
@@ -261,9 +339,14 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_LONG64 = "DevLong64";
     public static final TangoDataType<Long> LONG = new ScalarTangoDataType<Long>(
-            TangoConst.Tango_DEV_LONG64, DEV_LONG64, long.class, Long.class, new ValueExtracter<Long>() {
+            TangoConst.Tango_DEV_LONG64, DEV_LONG64, long.class, Long.class, new PrimitiveValueExtracter<Long>() {
         @Override
         public Long extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractLong(data);
+        }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractLong64();
             } catch (DevFailed devFailed) {
@@ -279,9 +362,14 @@ public class ScalarTangoDataTypes {
             });
     public static final String DEV_ULONG64 = "DevULong64";
     public static final TangoDataType<Long> U_LONG = new ScalarTangoDataType<Long>(
-            TangoConst.Tango_DEV_ULONG64, DEV_ULONG64, long.class, Long.class, new ValueExtracter<Long>() {
+            TangoConst.Tango_DEV_ULONG64, DEV_ULONG64, long.class, Long.class, new PrimitiveValueExtracter<Long>() {
         @Override
         public Long extract(TangoDataWrapper data) throws ValueExtractionException {
+            return extractLong(data);
+        }
+
+        @Override
+        public long extractLong(TangoDataWrapper data) throws ValueExtractionException {
             try {
                 return data.extractULong64();
             } catch (DevFailed devFailed) {
@@ -426,6 +514,13 @@ public class ScalarTangoDataTypes {
             return extracter.extract(data);
         }
 
+        /**
+         * @return extracter of primitive values or null if this is neither numeric nor boolean type
+         */
+        public PrimitiveValueExtracter<T> getPrimitiveExtracter() {
+            return extracter instanceof PrimitiveValueExtracter ? (PrimitiveValueExtracter<T>) extracter : null;
+        }
+
         @Override
         public void insert(TangoDataWrapper data, T value) throws ValueInsertionException {
             inserter.insert(data, value, 1, 0);
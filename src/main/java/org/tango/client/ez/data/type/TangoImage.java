@@ -5,6 +5,8 @@ import org.tango.client.ez.util.TangoImageUtils;
 
 import java.awt.image.RenderedImage;
 import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  *
@@ -14,6 +16,11 @@ import java.lang.reflect.Array;
  * @since 27.02.2015
  */
 public class TangoImage<T> {
+    /**
+     * Images of up to this number of elements are converted by the calling thread
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
     private final T data;
     private final int width;
     private final int height;
@@ -40,6 +47,58 @@ public class TangoImage<T> {
         return (T[]) extract(data, width, height);//resulting array is of type T see first code line of extract
     }
 
+    /**
+     * Same as {@link #to2DArray()} but refills rows of the given array instead of allocating a new one
+     *
+     * @param dst at least height rows of at least width elements each
+     * @return dst
+     * @throws java.lang.IllegalArgumentException if dst or any of its rows is too small, or a row is missing
+     */
+    public T[] to2DArray(T[] dst){
+        Preconditions.checkArgument(dst.length >= height, "dst has less than %s rows", height);
+        for (int y = 0; y < height; ++y) {
+            Preconditions.checkArgument(dst[y] != null && Array.getLength(dst[y]) >= width,
+                    "dst row %s has less than %s elements", y, width);
+        }
+        return (T[]) extract(data, width, height, dst);
+    }
+
+    /**
+     * @return zero-copy view of the whole image
+     */
+    public TangoImageView<T> view(){
+        return new TangoImageView<T>(data, 0, width, height, width, 1);
+    }
+
+    /**
+     * @param y row
+     * @return zero-copy view of a single row
+     */
+    public TangoImageView<T> row(int y){
+        return view().row(y);
+    }
+
+    /**
+     * Use this instead of {@link #to2DArray()} when only a part of the image is of interest
+     *
+     * @param x      left column of the region
+     * @param y      top row of the region
+     * @param width  px
+     * @param height px
+     * @return zero-copy view of the region of interest
+     * @throws java.lang.IndexOutOfBoundsException if the region does not fit into this image
+     */
+    public TangoImageView<T> roi(int x, int y, int width, int height){
+        return view().roi(x, y, width, height);
+    }
+
+    /**
+     * @return zero-copy transposed view of this image
+     */
+    public TangoImageView<T> transpose(){
+        return view().transpose();
+    }
+
     /**
      * Creates this instance from 2D array, i.e. int[32][32] -> TangoImage(data:32*32,w:32,h:32)
      *
@@ -116,7 +175,7 @@ public class TangoImage<T> {
     }
 
     /**
-     * Starts several threads to speedup extraction process if dimY/CPUS > THRESHOLD
+     * Splits copying into blocks of rows processed by fork-join pool if dimX*dimY > PARALLEL_THRESHOLD
      * AND System.getProperty(TANGO_IMAGE_EXTRACTER_USE_MULTITHREADING) is set to true.
      *
      * @param value 1-dimensional array
@@ -125,15 +184,25 @@ public class TangoImage<T> {
      * @return 2-dimensional array:x,y
      */
     static Object extract(final Object value, final int dimX, final int dimY) {
-        final Object result = Array.newInstance(value.getClass().getComponentType(), dimY, dimX);
-
-        for (int i = 0, k = 0; i < dimY; i++, k += dimX)
-            System.arraycopy(value, k, Array.get(result, i), 0, dimX);
+        //rows are allocated while being copied, so that allocation is done in parallel as well
+        return extract(value, dimX, dimY, Array.newInstance(value.getClass(), dimY));
+    }
 
+    /**
+     * @param value  1-dimensional array
+     * @param dimX   x
+     * @param dimY   y
+     * @param result 2-dimensional array to fill in, null rows are allocated
+     * @return result
+     */
+    static Object extract(final Object value, final int dimX, final int dimY, final Object result) {
+        copyRows(value, result, dimX, dimY, true);
         return result;
     }
 
     /**
+     * Same as {@link #extract(Object, int, int)} with respect to multithreading
+     *
      * @param value 2-dimensional array:x,y
      * @param dimX  x
      * @param dimY  y
@@ -142,11 +211,70 @@ public class TangoImage<T> {
      */
     static <V> V insert(Object value, int dimX, int dimY) {
         Object result = Array.newInstance(value.getClass().getComponentType().getComponentType(), dimX * dimY);
-        for (int i = 0, k = 0; i < dimY; i++, k += dimX)
-            System.arraycopy(Array.get(value, i), 0, result, k, dimX);
+        copyRows(result, value, dimX, dimY, false);
         return (V) result;
     }
 
+    private static void copyRows(Object flat, Object rows, int dimX, int dimY, boolean extract) {
+        if (dimY > 1 && (long) dimX * dimY > PARALLEL_THRESHOLD
+                && Boolean.getBoolean(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING))
+            ParallelRows.POOL.invoke(new ParallelRows(flat, rows, dimX, 0, dimY, extract));
+        else
+            copyRows(flat, rows, dimX, 0, dimY, extract);
+    }
+
+    private static void copyRows(Object flat, Object rows, int dimX, int from, int to, boolean extract) {
+        for (int i = from, k = from * dimX; i < to; i++, k += dimX)
+            if (extract) {
+                Object row = Array.get(rows, i);
+                if (row == null) Array.set(rows, i, row = Array.newInstance(flat.getClass().getComponentType(), dimX));
+                System.arraycopy(flat, k, row, 0, dimX);
+            } else
+                System.arraycopy(Array.get(rows, i), 0, flat, k, dimX);
+    }
+
+    /**
+     * Copies rows [from,to) splitting them in halves until a block is not larger than PARALLEL_THRESHOLD
+     */
+    private static final class ParallelRows extends RecursiveAction {
+        /**
+         * Common pool unless TANGO_IMAGE_EXTRACTER_PARALLELISM is set
+         */
+        private static final ForkJoinPool POOL = createPool();
+
+        private final Object flat;
+        private final Object rows;
+        private final int dimX;
+        private final int from;
+        private final int to;
+        private final boolean extract;
+
+        ParallelRows(Object flat, Object rows, int dimX, int from, int to, boolean extract) {
+            this.flat = flat;
+            this.rows = rows;
+            this.dimX = dimX;
+            this.from = from;
+            this.to = to;
+            this.extract = extract;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 || (long) (to - from) * dimX <= PARALLEL_THRESHOLD) {
+                copyRows(flat, rows, dimX, from, to, extract);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelRows(flat, rows, dimX, from, middle, extract),
+                    new ParallelRows(flat, rows, dimX, middle, to, extract));
+        }
+
+        private static ForkJoinPool createPool() {
+            Integer parallelism = Integer.getInteger(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_PARALLELISM);
+            return parallelism == null || parallelism < 1 ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+        }
+    }
+
     public T getData() {
         return data;
     }
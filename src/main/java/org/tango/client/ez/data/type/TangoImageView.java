@@ -0,0 +1,202 @@
+package org.tango.client.ez.data.type;
+
+import com.google.common.base.Preconditions;
+
+import java.lang.reflect.Array;
+
+/**
+ * Zero-copy rectangular window over the flat data of a {@link TangoImage}, i.e. a row, a region of interest or a transposed image.
+ * <p/>
+ * Pixel (x,y) of the view is data[{@link #index(int, int)}], writes through the view change the underlying image.
+ * Only {@link #to2DArray()}, {@link #copyTo(Object)} and {@link #toTangoImage()} copy, and only the pixels of this view.
+ * <p/>
+ * T one of the primitive array(int,float)
+ *
+ * @since 17.10.2026
+ */
+public final class TangoImageView<T> {
+    private final T data;
+    private final int offset;
+    private final int width;
+    private final int height;
+    private final int rowStride;
+    private final int pixelStride;
+
+    TangoImageView(T data, int offset, int width, int height, int rowStride, int pixelStride) {
+        this.data = data;
+        this.offset = offset;
+        this.width = width;
+        this.height = height;
+        this.rowStride = rowStride;
+        this.pixelStride = pixelStride;
+    }
+
+    /**
+     * @param x column of this view
+     * @param y row of this view
+     * @return index of the pixel in {@link #getData()}
+     * @throws java.lang.IndexOutOfBoundsException if x or y is out of this view
+     */
+    public int index(int x, int y) {
+        Preconditions.checkElementIndex(x, width, "x");
+        Preconditions.checkElementIndex(y, height, "y");
+        return offset + y * rowStride + x * pixelStride;
+    }
+
+    /**
+     * @param y row of this view
+     * @return view of a single row
+     */
+    public TangoImageView<T> row(int y) {
+        return roi(0, y, width, 1);
+    }
+
+    /**
+     * @param x column of this view
+     * @return view of a single column
+     */
+    public TangoImageView<T> column(int x) {
+        return roi(x, 0, 1, height);
+    }
+
+    /**
+     * @param x      left column of the region
+     * @param y      top row of the region
+     * @param width  px
+     * @param height px
+     * @return view of the region of interest
+     * @throws java.lang.IndexOutOfBoundsException if the region does not fit into this view
+     */
+    public TangoImageView<T> roi(int x, int y, int width, int height) {
+        Preconditions.checkArgument(width >= 0 && height >= 0, "Negative dimensions %sx%s", width, height);
+        Preconditions.checkPositionIndexes(x, x + width, this.width);
+        Preconditions.checkPositionIndexes(y, y + height, this.height);
+        return new TangoImageView<T>(data, offset + y * rowStride + x * pixelStride, width, height, rowStride, pixelStride);
+    }
+
+    /**
+     * @return view where pixel (x,y) is pixel (y,x) of this one
+     */
+    public TangoImageView<T> transpose() {
+        return new TangoImageView<T>(data, offset, height, width, pixelStride, rowStride);
+    }
+
+    /**
+     * @throws java.lang.IllegalArgumentException if data is not a numeric array
+     */
+    public double getDouble(int x, int y) {
+        int index = index(x, y);
+        if (data instanceof double[]) return ((double[]) data)[index];
+        if (data instanceof float[]) return ((float[]) data)[index];
+        if (data instanceof int[]) return ((int[]) data)[index];
+        if (data instanceof short[]) return ((short[]) data)[index];
+        return Array.getDouble(data, index);
+    }
+
+    /**
+     * Value is narrowed to float for float images
+     *
+     * @throws java.lang.IllegalArgumentException if data is neither double nor float array
+     */
+    public void setDouble(int x, int y, double value) {
+        int index = index(x, y);
+        if (data instanceof double[]) ((double[]) data)[index] = value;
+        else if (data instanceof float[]) ((float[]) data)[index] = (float) value;
+        else throw new IllegalArgumentException("Floating point image is expected here!");
+    }
+
+    /**
+     * @throws java.lang.IllegalArgumentException if data is not an integral array
+     */
+    public long getLong(int x, int y) {
+        int index = index(x, y);
+        if (data instanceof long[]) return ((long[]) data)[index];
+        if (data instanceof int[]) return ((int[]) data)[index];
+        if (data instanceof short[]) return ((short[]) data)[index];
+        return Array.getLong(data, index);
+    }
+
+    /**
+     * Value is narrowed to the element type of integral images
+     *
+     * @throws java.lang.IllegalArgumentException if data is not an integral array
+     */
+    public void setLong(int x, int y, long value) {
+        int index = index(x, y);
+        if (data instanceof long[]) ((long[]) data)[index] = value;
+        else if (data instanceof int[]) ((int[]) data)[index] = (int) value;
+        else if (data instanceof short[]) ((short[]) data)[index] = (short) value;
+        else if (data instanceof byte[]) ((byte[]) data)[index] = (byte) value;
+        else throw new IllegalArgumentException("Integral image is expected here!");
+    }
+
+    /**
+     * Copies pixels of this view into a new 2D array, i.e. the 64x64 ROI of a 2048x2048 frame results in T[64] of 64 elements each
+     *
+     * @return 2-dimensional array:x,y
+     */
+    public T[] to2DArray() {
+        Object result = Array.newInstance(data.getClass().getComponentType(), height, width);
+        for (int y = 0; y < height; y++)
+            copy(data, offset + y * rowStride, pixelStride, Array.get(result, y), 0, width);
+        return (T[]) result;
+    }
+
+    /**
+     * Copies pixels of this view row by row
+     *
+     * @param dst 1-dimensional array of at least width*height elements
+     * @return dst
+     */
+    public T copyTo(T dst) {
+        Preconditions.checkArgument(Array.getLength(dst) >= width * height, "dst has less than %s elements", width * height);
+        for (int y = 0, k = 0; y < height; y++, k += width)
+            copy(data, offset + y * rowStride, pixelStride, dst, k, width);
+        return dst;
+    }
+
+    /**
+     * @return a new compact image with a copy of the pixels of this view
+     */
+    public TangoImage<T> toTangoImage() {
+        return new TangoImage<T>(copyTo((T) Array.newInstance(data.getClass().getComponentType(), width * height)), width, height);
+    }
+
+    private static void copy(Object src, int srcPos, int srcStride, Object dst, int dstPos, int length) {
+        if (srcStride == 1) {
+            System.arraycopy(src, srcPos, dst, dstPos, length);
+        } else if (src instanceof double[]) {
+            double[] s = (double[]) src, d = (double[]) dst;
+            for (int i = 0; i < length; i++) d[dstPos + i] = s[srcPos + i * srcStride];
+        } else if (src instanceof float[]) {
+            float[] s = (float[]) src, d = (float[]) dst;
+            for (int i = 0; i < length; i++) d[dstPos + i] = s[srcPos + i * srcStride];
+        } else if (src instanceof long[]) {
+            long[] s = (long[]) src, d = (long[]) dst;
+            for (int i = 0; i < length; i++) d[dstPos + i] = s[srcPos + i * srcStride];
+        } else if (src instanceof int[]) {
+            int[] s = (int[]) src, d = (int[]) dst;
+            for (int i = 0; i < length; i++) d[dstPos + i] = s[srcPos + i * srcStride];
+        } else if (src instanceof short[]) {
+            short[] s = (short[]) src, d = (short[]) dst;
+            for (int i = 0; i < length; i++) d[dstPos + i] = s[srcPos + i * srcStride];
+        } else {
+            for (int i = 0; i < length; i++) Array.set(dst, dstPos + i, Array.get(src, srcPos + i * srcStride));
+        }
+    }
+
+    /**
+     * @return data of the underlying image as is
+     */
+    public T getData() {
+        return data;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
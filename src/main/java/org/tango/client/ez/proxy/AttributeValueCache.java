@@ -0,0 +1,218 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevFailed;
+import com.google.common.collect.MapMaker;
+import fr.esrf.TangoApi.DeviceAttribute;
+import org.tango.client.ez.data.type.TangoImage;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Read-through cache of attribute values of a single device, see {@link TangoProxy#setValueCacheMaxAge(String, long, java.util.concurrent.TimeUnit)}.
+ * <p/>
+ * Only attributes with a max age set are cached. Concurrent reads of an attribute whose cached value is missing or outdated
+ * share a single device read. Values of CHANGE events are stored as if they have just been read, event errors drop cached value.
+ * Failed reads and failed event values are never cached. Value of a read is not cached if the attribute has been invalidated,
+ * i.e. written, while the read was in progress, as it may predate the write.
+ * <p/>
+ * Raw {@link DeviceAttribute}s are cached. Extracted spectrum and image values wrap the array held by {@link DeviceAttribute},
+ * so readers must pass values extracted from cached attributes through {@link #unshare(DeviceAttribute, Object)} to get their own copy.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+final class AttributeValueCache {
+    private final String device;
+    /**
+     * Max age in nanoseconds per attribute
+     */
+    private final ConcurrentMap<String, Long> maxAges = new ConcurrentHashMap<String, Long>();
+    private final ConcurrentMap<String, CachedValue> values = new ConcurrentHashMap<String, CachedValue>();
+    /**
+     * Version per attribute, bumped whenever cached value is dropped
+     */
+    private final ConcurrentMap<String, Long> versions = new ConcurrentHashMap<String, Long>();
+    /**
+     * Every {@link DeviceAttribute} that has ever been cached, weak keys are compared by identity
+     */
+    private final Set<DeviceAttribute> shared = Collections.newSetFromMap(new MapMaker().weakKeys().<DeviceAttribute, Boolean>makeMap());
+    /**
+     * In-flight device reads
+     */
+    private final ConcurrentMap<String, CompletableFuture<DeviceAttribute>> reads = new ConcurrentHashMap<String, CompletableFuture<DeviceAttribute>>();
+
+    AttributeValueCache(String device) {
+        this.device = device;
+    }
+
+    /**
+     * @param attrName    name
+     * @param maxAgeNanos 0 disables caching of the attribute
+     */
+    void setMaxAge(String attrName, long maxAgeNanos) {
+        if (maxAgeNanos > 0) {
+            maxAges.put(attrName, maxAgeNanos);
+        } else {
+            maxAges.remove(attrName);
+            invalidate(attrName);
+        }
+    }
+
+    /**
+     * @param attrName name
+     * @param read     device read
+     * @return cached value if it is not older than max age of the attribute; otherwise the result of read
+     * @throws DevFailed           if read has failed
+     * @throws TangoProxyException if current thread has been interrupted while waiting for concurrent read
+     */
+    DeviceAttribute read(String attrName, DeviceRead read) throws DevFailed, TangoProxyException {
+        Long maxAge = maxAges.get(attrName);
+        if (maxAge == null) return read.read();
+        CachedValue cached = values.get(attrName);
+        if (cached != null && System.nanoTime() - cached.time <= maxAge) return cached.value;
+
+        CompletableFuture<DeviceAttribute> ownRead = new CompletableFuture<DeviceAttribute>();
+        CompletableFuture<DeviceAttribute> inFlight = reads.putIfAbsent(attrName, ownRead);
+        if (inFlight == null) {
+            try {
+                //value is as old as the moment the read has been started
+                long version = versions.computeIfAbsent(attrName, name -> 0L);
+                long time = System.nanoTime();
+                DeviceAttribute result = read.read();
+                if (!result.hasFailed() && maxAges.containsKey(attrName)) store(attrName, result, time, version);
+                ownRead.complete(result);
+                return result;
+            } catch (Throwable e) {
+                ownRead.completeExceptionally(e);
+                throw e;
+            } finally {
+                reads.remove(attrName, ownRead);
+            }
+        }
+
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TangoProxyException(device, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DevFailed) throw (DevFailed) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new AssertionError(cause);
+        }
+    }
+
+    /**
+     * @param attrName name
+     * @return cached value if it is not older than max age of the attribute, null otherwise
+     */
+    DeviceAttribute peek(String attrName) {
+        Long maxAge = maxAges.get(attrName);
+        if (maxAge == null) return null;
+        CachedValue cached = values.get(attrName);
+        return cached != null && System.nanoTime() - cached.time <= maxAge ? cached.value : null;
+    }
+
+    /**
+     * Stores value of a CHANGE event or drops cached value if event is an error
+     *
+     * @param attrName name
+     * @param signal   either {@link DeviceAttribute} or {@link Exception}
+     */
+    void offer(String attrName, Object signal) {
+        if (!maxAges.containsKey(attrName)) return;
+        if (signal instanceof DeviceAttribute && !((DeviceAttribute) signal).hasFailed())
+            store(attrName, (DeviceAttribute) signal, System.nanoTime());
+        else
+            values.remove(attrName);
+    }
+
+    /**
+     * Stores value unless attribute has been invalidated since version was taken
+     */
+    private void store(String attrName, DeviceAttribute value, long time, long version) {
+        versions.computeIfPresent(attrName, (name, current) -> {
+            if (current == version) store(attrName, value, time);
+            return current;
+        });
+    }
+
+    private void store(String attrName, DeviceAttribute value, long time) {
+        //mark before publishing, so that no reader gets shared value not marked as such
+        shared.add(value);
+        values.put(attrName, new CachedValue(value, time));
+    }
+
+    /**
+     * @param deviceAttribute value has been extracted from
+     * @param value           extracted value
+     * @return value itself or its copy if it may wrap arrays shared with other readers of the cached deviceAttribute
+     */
+    <T> T unshare(DeviceAttribute deviceAttribute, T value) {
+        if (shared.isEmpty() || !shared.contains(deviceAttribute)) return value;
+        return copy(value);
+    }
+
+    /**
+     * @return copy of spectrum or image value, value itself otherwise
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T value) {
+        if (value instanceof TangoImage) {
+            TangoImage<?> image = (TangoImage<?>) value;
+            return (T) new TangoImage<Object>(copyArray(image.getData()), image.getWidth(), image.getHeight());
+        }
+        if (value != null && value.getClass().isArray()) return (T) copyArray(value);
+        return value;
+    }
+
+    private static Object copyArray(Object src) {
+        int length = Array.getLength(src);
+        Object result = Array.newInstance(src.getClass().getComponentType(), length);
+        System.arraycopy(src, 0, result, 0, length);
+        return result;
+    }
+
+    /**
+     * Drops cached value, i.e. after the attribute has been written
+     */
+    void invalidate(String attrName) {
+        //bump first, so that a concurrent read either fails to store its value or stores it before it is removed
+        versions.merge(attrName, 1L, Long::sum);
+        values.remove(attrName);
+        //later readers must not share a read started before
+        reads.remove(attrName);
+    }
+
+    void clear() {
+        versions.replaceAll((name, version) -> version + 1);
+        values.clear();
+        reads.clear();
+    }
+
+    interface DeviceRead {
+        DeviceAttribute read() throws DevFailed;
+    }
+
+    private static final class CachedValue {
+        final DeviceAttribute value;
+        /**
+         * See {@link System#nanoTime()}
+         */
+        final long time;
+
+        CachedValue(DeviceAttribute value, long time) {
+            this.value = value;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Mutable pair of boolean value and time in milliseconds, filled in by {@link TangoProxy#readBoolean(String, BooleanValueTime)}.
+ * Meant to be reused for consecutive reads, so it is not thread-safe.
+ *
+ * @since 17.10.2026
+ */
+public final class BooleanValueTime {
+    private boolean value;
+    private long time;
+
+    public boolean getValue() {
+        return value;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    void set(boolean value, long time) {
+        this.value = value;
+        this.time = time;
+    }
+}
@@ -35,9 +35,13 @@
 package org.tango.client.ez.proxy;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fr.esrf.Tango.AsynReplyNotArrived;
 import fr.esrf.Tango.DevFailed;
 import fr.esrf.TangoApi.*;
 import fr.esrf.TangoApi.events.TangoEventsAdapter;
+import fr.esrf.TangoDs.TangoConst;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tango.client.ez.data.TangoDataWrapper;
@@ -46,10 +50,30 @@ import org.tango.client.ez.data.format.TangoDataFormat;
 import org.tango.client.ez.data.type.*;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * This class is a main entry point of the proxy framework.
@@ -66,16 +90,88 @@ import java.util.concurrent.ConcurrentMap;
 public final class DeviceProxyWrapper implements TangoProxy {
     public static final String API_ATTR_NOT_FOUND = "API_AttrNotFound";
     public static final String API_COMMAND_NOT_FOUND = "API_CommandNotFound";
+    /**
+     * System property, for how many milliseconds a name known not to be an attribute (command) of the device is answered
+     * locally by {@link #hasAttribute(String)}, {@link #hasCommand(String)} etc. 0 disables such caching. Default is 10000
+     */
+    public static final String TANGO_PROXY_MISSING_NAME_TTL = "tango.proxy.missing.name.ttl";
+    private static final long DEFAULT_MISSING_NAME_TTL = 10000L;
+    /**
+     * System property, number of threads of the default executor that converts replies of asynchronous calls. Default is 16
+     */
+    public static final String TANGO_PROXY_ASYNC_THREADS = "tango.proxy.async.threads";
+    private static final int DEFAULT_ASYNC_THREADS = 16;
+    /**
+     * System property, how often replies of asynchronous calls are checked, in microseconds. Default is 1000
+     */
+    public static final String TANGO_PROXY_ASYNC_POLL_PERIOD = "tango.proxy.async.poll.period";
+    private static final long DEFAULT_ASYNC_POLL_PERIOD = 1000L;
     private static final Logger logger = LoggerFactory.getLogger(DeviceProxyWrapper.class);
+    /**
+     * Default executor that converts replies of asynchronous calls and completes their futures. Shared by all instances that
+     * were not given their own executor.
+     * <p/>
+     * Has at most {@link #TANGO_PROXY_ASYNC_THREADS} threads, idle ones exit after a minute. Its tasks never wait for a device,
+     * so hung devices do not occupy its threads.
+     */
+    static final Executor DEFAULT_ASYNC_EXECUTOR = newDefaultAsyncExecutor();
+    /**
+     * Replies of asynchronous calls of all instances
+     */
+    static final TangoAsyncReplies ASYNC_REPLIES = new TangoAsyncReplies(
+            Long.getLong(TANGO_PROXY_ASYNC_POLL_PERIOD, DEFAULT_ASYNC_POLL_PERIOD), TimeUnit.MICROSECONDS);
     private final DeviceProxy proxy;
+    private final Executor asyncExecutor;
+    /**
+     * Performs blocking calls on behalf of asynchronous ones, i.e. loads missing metadata before sending a request.
+     * Single thread per device, so that a hung device blocks nobody else; the thread exits when idle.
+     */
+    private final ExecutorService lane;
     private final TangoEventsAdapter eventsAdapter;
     private final ConcurrentMap<String, TangoEventDispatcher<?>> dispatchers = new ConcurrentHashMap<String, TangoEventDispatcher<?>>();
     private final Object subscriptionGuard = new Object();
-    private final Set<String> subscriptionSet = new HashSet<String>();
+    /**
+     * Tango event subscriptions of this proxy by event key
+     */
+    private final Map<String, SubscribedEvent> subscribedEvents = new HashMap<String, SubscribedEvent>();
+    /**
+     * Number of {@link TangoEventPublisher} subscribers per event key
+     */
+    private final Map<String, Integer> publisherSubscriptions = new HashMap<String, Integer>();
+    /**
+     * Event keys subscribed by publishers that are to be unsubscribed
+     */
+    private final Set<String> publisherOwnedSubscriptions = new HashSet<String>();
+    private final Object publisherGuard = new Object();
+    /**
+     * Infos by {@link #metadataKey(String)}, as Tango names are case insensitive
+     */
     private final ConcurrentMap<String, TangoAttributeInfoWrapper> attributeInfo = new ConcurrentHashMap<String, TangoAttributeInfoWrapper>();
     private final ConcurrentMap<String, TangoCommandInfoWrapper> commandInfo = new ConcurrentHashMap<String, TangoCommandInfoWrapper>();
-    private final Object commandInfoQueryGuard = new Object();
-    private final Object attributeInfoQueryGuard = new Object();
+    /**
+     * In-flight remote metadata queries. Concurrent requests for the same name share single query.
+     */
+    private final ConcurrentMap<String, CompletableFuture<TangoAttributeInfoWrapper>> attributeInfoQueries = new ConcurrentHashMap<String, CompletableFuture<TangoAttributeInfoWrapper>>();
+    private final ConcurrentMap<String, CompletableFuture<TangoCommandInfoWrapper>> commandInfoQueries = new ConcurrentHashMap<String, CompletableFuture<TangoCommandInfoWrapper>>();
+    /**
+     * Names known not to exist mapped to expiration time, see {@link System#nanoTime()}
+     */
+    private final ConcurrentMap<String, Long> missingAttributes = new ConcurrentHashMap<String, Long>();
+    private final ConcurrentMap<String, Long> missingCommands = new ConcurrentHashMap<String, Long>();
+    private final long missingNameTtlNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(TANGO_PROXY_MISSING_NAME_TTL, DEFAULT_MISSING_NAME_TTL));
+    /**
+     * Persistent metadata cache, may be null
+     */
+    private final TangoMetadataCache metadataCache;
+    /**
+     * Attributes whose infos were loaded from metadataCache and have not been checked against actual value yet
+     */
+    private final Set<String> unvalidatedAttributes = ConcurrentHashMap.newKeySet();
+    /**
+     * Commands whose infos were loaded from metadataCache and have not been checked against actual argout yet
+     */
+    private final Set<String> unvalidatedCommands = ConcurrentHashMap.newKeySet();
+    private final AttributeValueCache valueCache;
 
     /**
      * @param name path to tango server
@@ -85,15 +181,95 @@ public final class DeviceProxyWrapper implements TangoProxy {
         this(newDeviceProxy(name));
     }
 
+    /**
+     * @param name          path to tango server
+     * @param asyncExecutor converts replies of asynchronous calls, i.e. {@link DeviceProxyWrapper#readAttributeAsync(String)}
+     * @throws TangoProxyException
+     */
+    protected DeviceProxyWrapper(String name, Executor asyncExecutor) throws TangoProxyException {
+        this(newDeviceProxy(name), asyncExecutor);
+    }
+
+    /**
+     * @param name          path to tango server
+     * @param metadataCache persistent cache of attribute and command infos
+     * @throws TangoProxyException
+     */
+    protected DeviceProxyWrapper(String name, TangoMetadataCache metadataCache) throws TangoProxyException {
+        this(newDeviceProxy(name), DEFAULT_ASYNC_EXECUTOR, metadataCache);
+    }
+
     public DeviceProxyWrapper(DeviceProxy proxy) throws TangoProxyException {
+        this(proxy, DEFAULT_ASYNC_EXECUTOR);
+    }
+
+    public DeviceProxyWrapper(DeviceProxy proxy, Executor asyncExecutor) throws TangoProxyException {
+        this(proxy, asyncExecutor, null);
+    }
+
+    /**
+     * @param proxy         TangORB proxy
+     * @param asyncExecutor converts replies of asynchronous calls
+     * @param metadataCache persistent cache of attribute and command infos, may be null
+     * @throws TangoProxyException
+     */
+    public DeviceProxyWrapper(DeviceProxy proxy, Executor asyncExecutor, TangoMetadataCache metadataCache) throws TangoProxyException {
         logger.trace("DeviceProxyWrapper({})", proxy.get_name());
         try {
             this.proxy = proxy;
+            this.asyncExecutor = asyncExecutor;
+            this.lane = newLane(proxy.name());
+            this.metadataCache = metadataCache;
+            this.valueCache = new AttributeValueCache(proxy.name());
             this.eventsAdapter = new TangoEventsAdapter(this.proxy);
         } catch (DevFailed devFailed) {
             logger.debug("Failed to construct DeviceProxyWrapper for device {}", proxy.get_name());
             throw new TangoProxyException(proxy.get_name(), devFailed);
         }
+        if (metadataCache != null) restoreMetadata(metadataCache.load(proxy.name()));
+    }
+
+    private static Executor newDefaultAsyncExecutor() {
+        int threads = Integer.getInteger(TANGO_PROXY_ASYNC_THREADS, DEFAULT_ASYNC_THREADS);
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("ez-tango-async-%d").setDaemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static ExecutorService newLane(String device) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("ez-tango-lane-" + device.replace("%", "%%") + "-%d").setDaemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private void restoreMetadata(TangoMetadataCache.Metadata metadata) {
+        if (metadata == null) return;
+        for (AttributeInfoEx info : metadata.attributes) {
+            try {
+                attributeInfo.put(metadataKey(info.name), new TangoAttributeInfoWrapper(info));
+                unvalidatedAttributes.add(metadataKey(info.name));
+            } catch (UnknownTangoDataType unknownTangoDataType) {
+                logger.debug("DeviceProxyWrapper#restoreMetadata skips attribute of unknown data type. {}/{}", getName(), info.name);
+            }
+        }
+        for (CommandInfo info : metadata.commands) {
+            try {
+                commandInfo.put(metadataKey(info.cmd_name), new TangoCommandInfoWrapper(info));
+                unvalidatedCommands.add(metadataKey(info.cmd_name));
+            } catch (UnknownTangoDataType unknownTangoDataType) {
+                logger.debug("DeviceProxyWrapper#restoreMetadata skips command of unknown data type. {}/{}", getName(), info.cmd_name);
+            }
+        }
+    }
+
+    /**
+     * Schedules write of the persistent cache, writes requested in a row are coalesced
+     */
+    private void storeMetadata() {
+        if (metadataCache != null)
+            metadataCache.storeLater(getName(), attributeInfo.values(), commandInfo.values());
     }
 
     private static DeviceProxy newDeviceProxy(String name) throws TangoProxyException {
@@ -121,12 +297,12 @@ public final class DeviceProxyWrapper implements TangoProxy {
     public <T> T readAttribute(String attrName) throws ReadAttributeException, NoSuchAttributeException {
         logger.trace("DeviceProxyWrapper#readAttribute {}/{}", getName(), attrName);
         try {
-            DeviceAttribute deviceAttribute = this.proxy.read_attribute(attrName);
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
             return readAttributeValue(attrName, deviceAttribute);
         } catch (DevFailed e) {
             logger.debug("DeviceProxyWrapper#readAttribute has failed. {}/{}", getName(), attrName);
             if (e.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(e.errors[0].reason))
-                throw new NoSuchAttributeException();
+                throw NoSuchAttributeException.newInstance();
             throw new ReadAttributeException(getName(), attrName, e);
         } catch (ValueExtractionException e) {
             logger.debug("DeviceProxyWrapper#readAttribute has failed. {}/{}", getName(), attrName);
@@ -149,7 +325,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
     public <T> ValueTime<T> readAttributeValueAndTime(String attrName) throws ReadAttributeException, NoSuchAttributeException {
         logger.trace("DeviceProxyWrapper#readAttributeValueAndTime {}/{}", getName(), attrName);
         try {
-            DeviceAttribute deviceAttribute = this.proxy.read_attribute(attrName);
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
             T result = readAttributeValue(attrName, deviceAttribute);
 
             long time = deviceAttribute.getTimeValMillisSec();
@@ -157,7 +333,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
         } catch (DevFailed e) {
             logger.debug("DeviceProxyWrapper#readAttributeValueAndTime has failed. {}/{}", getName(), attrName);
             if (e.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(e.errors[0].reason))
-                throw new NoSuchAttributeException();
+                throw NoSuchAttributeException.newInstance();
             throw new ReadAttributeException(getName(), attrName, e);
         } catch (ValueExtractionException e) {
             logger.debug("DeviceProxyWrapper#readAttributeValueAndTime has failed. {}/{}", getName(), attrName);
@@ -168,14 +344,271 @@ public final class DeviceProxyWrapper implements TangoProxy {
         }
     }
 
+    /**
+     * Reads attribute via {@link #valueCache}
+     */
+    private DeviceAttribute readDeviceAttribute(String attrName) throws DevFailed, TangoProxyException {
+        return valueCache.read(attrName, () -> this.proxy.read_attribute(attrName));
+    }
+
+    @Override
+    public void setValueCacheMaxAge(String attrName, long maxAge, TimeUnit unit) {
+        logger.trace("DeviceProxyWrapper#setValueCacheMaxAge {}/{}={}", getName(), attrName, maxAge);
+        valueCache.setMaxAge(attrName, unit.toNanos(maxAge));
+    }
+
+    /**
+     * Extracts value, copies spectrum and image values of cached attributes, see {@link AttributeValueCache#unshare(DeviceAttribute, Object)}
+     */
     private <T> T readAttributeValue(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+        T result = extractAttributeValue(attrName, deviceAttribute);
+        return valueCache.unshare(deviceAttribute, result);
+    }
+
+    /**
+     * Extracted spectrum and image values may wrap arrays of deviceAttribute, callers must not expose them if deviceAttribute is cached
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T extractAttributeValue(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+        TangoAttributeInfoWrapper attributeInfo = getValidAttributeInfo(attrName, deviceAttribute);
+        TangoDataWrapper dataWrapper = TangoDataWrapper.create(deviceAttribute, attributeInfo);
+        //format and type are resolved once per attribute info, reuse them unless value is of another type
+        if (attributeInfo.toAttributeInfo().data_type == deviceAttribute.getType())
+            return ((TangoDataType<T>) attributeInfo.getType()).extract(dataWrapper);
+        TangoDataFormat<T> dataFormat = (TangoDataFormat<T>) attributeInfo.getFormat();
+        return dataFormat.extract(dataWrapper);
+    }
+
+    /**
+     * @return info of the attribute checked against read value
+     * @throws DevFailed if read value carries an error
+     */
+    private TangoAttributeInfoWrapper getValidAttributeInfo(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, NoSuchAttributeException {
         if (deviceAttribute.hasFailed()) {
             throw new DevFailed(deviceAttribute.getErrStack());
         }
         TangoAttributeInfoWrapper attributeInfo = getAttributeInfo(attrName);
-        TangoDataWrapper dataWrapper = TangoDataWrapper.create(deviceAttribute, attributeInfo);
-        TangoDataFormat<T> dataFormat = TangoDataFormat.createForAttrDataFormat(attributeInfo.toAttributeInfo().data_format);
-        return dataFormat.extract(dataWrapper);
+        if (!unvalidatedAttributes.isEmpty() && unvalidatedAttributes.remove(metadataKey(attrName)))
+            attributeInfo = validateAttributeInfo(attrName, attributeInfo, deviceAttribute);
+        return attributeInfo;
+    }
+
+    @Override
+    public double readDouble(String attrName) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readDouble {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            return getPrimitiveExtracter(attrName, deviceAttribute).extractDouble(TangoDataWrapper.create(deviceAttribute, null));
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readDouble", attrName, e);
+        }
+    }
+
+    @Override
+    public DoubleValueTime readDouble(String attrName, DoubleValueTime result) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readDouble {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            result.set(getPrimitiveExtracter(attrName, deviceAttribute).extractDouble(TangoDataWrapper.create(deviceAttribute, null)),
+                    deviceAttribute.getTimeValMillisSec());
+            return result;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readDouble", attrName, e);
+        }
+    }
+
+    @Override
+    public long readLong(String attrName) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readLong {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            return getPrimitiveExtracter(attrName, deviceAttribute).extractLong(TangoDataWrapper.create(deviceAttribute, null));
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readLong", attrName, e);
+        }
+    }
+
+    @Override
+    public LongValueTime readLong(String attrName, LongValueTime result) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readLong {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            result.set(getPrimitiveExtracter(attrName, deviceAttribute).extractLong(TangoDataWrapper.create(deviceAttribute, null)),
+                    deviceAttribute.getTimeValMillisSec());
+            return result;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readLong", attrName, e);
+        }
+    }
+
+    @Override
+    public int readInt(String attrName) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readInt {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            return getPrimitiveExtracter(attrName, deviceAttribute).extractInt(TangoDataWrapper.create(deviceAttribute, null));
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readInt", attrName, e);
+        }
+    }
+
+    @Override
+    public IntValueTime readInt(String attrName, IntValueTime result) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readInt {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            result.set(getPrimitiveExtracter(attrName, deviceAttribute).extractInt(TangoDataWrapper.create(deviceAttribute, null)),
+                    deviceAttribute.getTimeValMillisSec());
+            return result;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readInt", attrName, e);
+        }
+    }
+
+    @Override
+    public boolean readBoolean(String attrName) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readBoolean {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            return getPrimitiveExtracter(attrName, deviceAttribute).extractBoolean(TangoDataWrapper.create(deviceAttribute, null));
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readBoolean", attrName, e);
+        }
+    }
+
+    @Override
+    public BooleanValueTime readBoolean(String attrName, BooleanValueTime result) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readBoolean {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            result.set(getPrimitiveExtracter(attrName, deviceAttribute).extractBoolean(TangoDataWrapper.create(deviceAttribute, null)),
+                    deviceAttribute.getTimeValMillisSec());
+            return result;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readBoolean", attrName, e);
+        }
+    }
+
+    @Override
+    public int readAttributeInto(String attrName, Object dst) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributeInto {}/{}", getName(), attrName);
+        Preconditions.checkArgument(dst.getClass().isArray(), "Array is expected here!");
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            //value is copied into dst anyway
+            Object value = extractAttributeValue(attrName, deviceAttribute);
+            if (value instanceof TangoImage) value = ((TangoImage<?>) value).getData();
+            if (value == null || !value.getClass().isArray())
+                throw new ValueExtractionException("Attribute " + attrName + " is neither spectrum nor image");
+            int length = Array.getLength(value);
+            copyArray(attrName, value, dst, length);
+            return length;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readAttributeInto", attrName, e);
+        }
+    }
+
+    @Override
+    public <V> TangoImage<V> readAttributeInto(String attrName, TangoImage<V> dst) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributeInto {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            Object value = extractAttributeValue(attrName, deviceAttribute);
+            if (!(value instanceof TangoImage))
+                throw new ValueExtractionException("Attribute " + attrName + " is not an image");
+            TangoImage<?> image = (TangoImage<?>) value;
+            if (image.getWidth() != dst.getWidth() || image.getHeight() != dst.getHeight())
+                throw new ValueExtractionException("Image " + attrName + " is " + image.getWidth() + "x" + image.getHeight() +
+                        " while " + dst.getWidth() + "x" + dst.getHeight() + " is expected");
+            copyArray(attrName, image.getData(), dst.getData(), image.getWidth() * image.getHeight());
+            return dst;
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readAttributeInto", attrName, e);
+        }
+    }
+
+    @Override
+    public DirectTangoImage readAttributeInto(String attrName, DirectTangoImage dst) throws ReadAttributeException, NoSuchAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributeInto {}/{}", getName(), attrName);
+        try {
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
+            Object value = extractAttributeValue(attrName, deviceAttribute);
+            if (!(value instanceof TangoImage))
+                throw new ValueExtractionException("Attribute " + attrName + " is not an image");
+            TangoImage<?> image = (TangoImage<?>) value;
+            if (image.getWidth() != dst.getWidth() || image.getHeight() != dst.getHeight())
+                throw new ValueExtractionException("Image " + attrName + " is " + image.getWidth() + "x" + image.getHeight() +
+                        " while " + dst.getWidth() + "x" + dst.getHeight() + " is expected");
+            Class<?> componentType = image.getData().getClass().getComponentType();
+            if (componentType != dst.getComponentType())
+                throw new ValueExtractionException("Attribute " + attrName + " of type " + componentType +
+                        " can not be read into " + dst.getComponentType() + " image");
+            return dst.copyFrom(image.getData());
+        } catch (DevFailed | ValueExtractionException | TangoProxyException e) {
+            throw readFailed("readAttributeInto", attrName, e);
+        }
+    }
+
+    private static void copyArray(String attrName, Object src, Object dst, int length) throws ValueExtractionException {
+        if (Array.getLength(dst) < length)
+            throw new ValueExtractionException("Attribute " + attrName + " of " + length + " elements does not fit into array of " + Array.getLength(dst));
+        try {
+            System.arraycopy(src, 0, dst, 0, length);
+        } catch (ArrayStoreException e) {
+            throw new ValueExtractionException("Attribute " + attrName + " of type " + src.getClass().getSimpleName() +
+                    " can not be read into " + dst.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * @return primitive extracter of the scalar data type of the read value
+     * @throws ValueExtractionException if value is neither numeric nor boolean scalar
+     */
+    private PrimitiveValueExtracter<?> getPrimitiveExtracter(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+        TangoAttributeInfoWrapper attributeInfo = getValidAttributeInfo(attrName, deviceAttribute);
+        TangoDataType<?> type = attributeInfo.getType();
+        if (attributeInfo.toAttributeInfo().data_type != deviceAttribute.getType()) {
+            try {
+                type = attributeInfo.getFormat().getDataType(deviceAttribute.getType());
+            } catch (UnknownTangoDataType e) {
+                throw new ValueExtractionException(e);
+            }
+        }
+        if (type instanceof ScalarTangoDataTypes.ScalarTangoDataType) {
+            PrimitiveValueExtracter<?> extracter = ((ScalarTangoDataTypes.ScalarTangoDataType<?>) type).getPrimitiveExtracter();
+            if (extracter != null) return extracter;
+        }
+        throw new ValueExtractionException("Attribute " + attrName + " of type " + type + " is neither numeric nor boolean scalar");
+    }
+
+    /**
+     * Maps failure of read into exception to be thrown
+     *
+     * @throws NoSuchAttributeException if there is no such attribute
+     */
+    private ReadAttributeException readFailed(String method, String attrName, Exception e) throws NoSuchAttributeException {
+        logger.debug("DeviceProxyWrapper#{} has failed. {}/{}", method, getName(), attrName);
+        if (e instanceof DevFailed) {
+            DevFailed devFailed = (DevFailed) e;
+            if (devFailed.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(devFailed.errors[0].reason))
+                throw NoSuchAttributeException.newInstance();
+            return new ReadAttributeException(getName(), attrName, devFailed);
+        }
+        if (e instanceof TangoProxyException && ((TangoProxyException) e).devFailed != null)
+            return new ReadAttributeException(getName(), attrName, ((TangoProxyException) e).devFailed);
+        return new ReadAttributeException(getName(), attrName, e);
+    }
+
+    /**
+     * Checks info loaded from persistent cache against actual value and refreshes it if data type or format do not match.
+     */
+    private TangoAttributeInfoWrapper validateAttributeInfo(String attrName, TangoAttributeInfoWrapper attributeInfo, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, NoSuchAttributeException {
+        AttributeInfo info = attributeInfo.toAttributeInfo();
+        if (info.data_type == deviceAttribute.getType() && info.data_format.value() == deviceAttribute.getDataFormat().value())
+            return attributeInfo;
+        logger.debug("DeviceProxyWrapper#validateAttributeInfo refreshes stale info. {}/{}", getName(), attrName);
+        this.attributeInfo.remove(metadataKey(attrName), attributeInfo);
+        return getAttributeInfo(attrName);
     }
 
     /**
@@ -188,7 +621,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
     public <T> ValueTimeQuality<T> readAttributeValueTimeQuality(String attrName) throws ReadAttributeException, NoSuchAttributeException {
         logger.trace("DeviceProxyWrapper#readAttributeValueTimeQuality {}/{}", getName(), attrName);
         try {
-            DeviceAttribute deviceAttribute = this.proxy.read_attribute(attrName);
+            DeviceAttribute deviceAttribute = readDeviceAttribute(attrName);
             T result = readAttributeValue(attrName, deviceAttribute);
 
             long time = deviceAttribute.getTimeValMillisSec();
@@ -197,7 +630,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
         } catch (DevFailed e) {
             logger.debug("DeviceProxyWrapper#readAttributeValueTimeQuality has failed. {}/{}", getName(), attrName);
             if (e.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(e.errors[0].reason))
-                throw new NoSuchAttributeException();
+                throw NoSuchAttributeException.newInstance();
             throw new ReadAttributeException(getName(), attrName, e);
         } catch (ValueExtractionException e) {
             logger.debug("DeviceProxyWrapper#readAttributeValueTimeQuality has failed. {}/{}", getName(), attrName);
@@ -208,6 +641,122 @@ public final class DeviceProxyWrapper implements TangoProxy {
         }
     }
 
+    /**
+     * Reads all attributes via single {@link DeviceProxy#read_attribute(String[])} call.
+     *
+     * @param attrNames names
+     * @param <T>       type of values
+     * @return per attribute results
+     * @throws ReadAttributeException if the call itself has failed
+     */
+    @Override
+    public <T> Map<String, ReadAttributeResult<T>> readAttributes(String... attrNames) throws ReadAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributes {}/{}", getName(), attrNames);
+        return readAttributes(attrNames, new DeviceAttributeConverter<T>() {
+            @Override
+            public T convert(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+                return readAttributeValue(attrName, deviceAttribute);
+            }
+        });
+    }
+
+    @Override
+    public <T> Map<String, ReadAttributeResult<ValueTime<T>>> readAttributesValueAndTime(String... attrNames) throws ReadAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributesValueAndTime {}/{}", getName(), attrNames);
+        return readAttributes(attrNames, new DeviceAttributeConverter<ValueTime<T>>() {
+            @Override
+            public ValueTime<T> convert(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+                T value = readAttributeValue(attrName, deviceAttribute);
+                return new ValueTime<T>(value, deviceAttribute.getTimeValMillisSec());
+            }
+        });
+    }
+
+    @Override
+    public <T> Map<String, ReadAttributeResult<ValueTimeQuality<T>>> readAttributesValueTimeQuality(String... attrNames) throws ReadAttributeException {
+        logger.trace("DeviceProxyWrapper#readAttributesValueTimeQuality {}/{}", getName(), attrNames);
+        return readAttributes(attrNames, this.<T>newValueTimeQualityConverter());
+    }
+
+    /**
+     * Sends {@link DeviceProxy#read_attribute_asynch(String[])}, see {@link #readAttributeAsync(String)}
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<T>>>> readAttributesValueTimeQualityAsync(String... attrNames) {
+        logger.trace("DeviceProxyWrapper#readAttributesValueTimeQualityAsync {}/{}", getName(), attrNames);
+        return callAsync(Arrays.stream(attrNames).map(DeviceProxyWrapper::metadataKey).allMatch(attributeInfo::containsKey), () -> {
+            //missing attributes are reported per attribute once the reply has arrived
+            for (String attrName : attrNames) findAttributeInfo(attrName);
+            int id = proxy.read_attribute_asynch(attrNames);
+            return new TangoAsyncReplies.Request<DeviceAttribute[]>() {
+                @Override
+                public DeviceAttribute[] poll() throws DevFailed {
+                    try {
+                        return proxy.read_attribute_reply(id);
+                    } catch (AsynReplyNotArrived e) {
+                        return null;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelAsynchRequest(id);
+                }
+            };
+        }, false, 0L, deviceAttributes -> convertAttributes(attrNames, deviceAttributes, this.<T>newValueTimeQualityConverter()),
+                e -> readAttributesFailure(attrNames, e));
+    }
+
+    private <T> DeviceAttributeConverter<ValueTimeQuality<T>> newValueTimeQualityConverter() {
+        return new DeviceAttributeConverter<ValueTimeQuality<T>>() {
+            @Override
+            public ValueTimeQuality<T> convert(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException {
+                T value = readAttributeValue(attrName, deviceAttribute);
+                return new ValueTimeQuality<T>(value, deviceAttribute.getTimeValMillisSec(), deviceAttribute.getQuality());
+            }
+        };
+    }
+
+    private <R> Map<String, ReadAttributeResult<R>> readAttributes(String[] attrNames, DeviceAttributeConverter<R> converter) throws ReadAttributeException {
+        DeviceAttribute[] deviceAttributes;
+        try {
+            deviceAttributes = this.proxy.read_attribute(attrNames);
+        } catch (DevFailed e) {
+            logger.debug("DeviceProxyWrapper#readAttributes has failed. {}/{}", getName(), attrNames);
+            throw new ReadAttributeException(getName(), String.join(",", attrNames), e);
+        }
+        return convertAttributes(attrNames, deviceAttributes, converter);
+    }
+
+    /**
+     * Failure of a particular attribute is reported via corresponding {@link ReadAttributeResult}
+     */
+    private <R> Map<String, ReadAttributeResult<R>> convertAttributes(String[] attrNames, DeviceAttribute[] deviceAttributes, DeviceAttributeConverter<R> converter) {
+        Map<String, ReadAttributeResult<R>> result = new LinkedHashMap<String, ReadAttributeResult<R>>(attrNames.length);
+        for (int i = 0; i < attrNames.length; ++i) {
+            String attrName = attrNames[i];
+            try {
+                result.put(attrName, ReadAttributeResult.success(attrName, converter.convert(attrName, deviceAttributes[i])));
+            } catch (DevFailed e) {
+                logger.debug("DeviceProxyWrapper#readAttributes has failed. {}/{}", getName(), attrName);
+                if (e.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(e.errors[0].reason))
+                    result.put(attrName, ReadAttributeResult.<R>failure(attrName, NoSuchAttributeException.newInstance()));
+                else
+                    result.put(attrName, ReadAttributeResult.<R>failure(attrName, new ReadAttributeException(getName(), attrName, e)));
+            } catch (ValueExtractionException e) {
+                logger.debug("DeviceProxyWrapper#readAttributes has failed. {}/{}", getName(), attrName);
+                result.put(attrName, ReadAttributeResult.<R>failure(attrName, new ReadAttributeException(getName(), attrName, e)));
+            } catch (NoSuchAttributeException e) {
+                logger.debug("DeviceProxyWrapper#readAttributes has failed. {}/{}", getName(), attrName);
+                result.put(attrName, ReadAttributeResult.<R>failure(attrName, e));
+            } catch (TangoProxyException e) {
+                logger.debug("DeviceProxyWrapper#readAttributes has failed. {}/{}", getName(), attrName);
+                result.put(attrName, ReadAttributeResult.<R>failure(attrName, new ReadAttributeException(getName(), attrName, e.devFailed)));
+            }
+        }
+        return result;
+    }
+
     /**
      * Writes a new value of type T to an attribute specified by name.
      *
@@ -217,17 +766,13 @@ public final class DeviceProxyWrapper implements TangoProxy {
      * @throws TangoProxyException
      */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> void writeAttribute(String attrName, T value) throws WriteAttributeException, NoSuchAttributeException {
         logger.trace("DeviceProxyWrapper#writeAttribute {}/{}={}", getName(), attrName, value);
-        DeviceAttribute deviceAttribute = new DeviceAttribute(attrName);
-
         try {
-            TangoAttributeInfoWrapper attributeInfo = getAttributeInfo(attrName);
-            TangoDataWrapper dataWrapper = TangoDataWrapper.create(deviceAttribute, attributeInfo);
-            int devDataType = attributeInfo.toAttributeInfo().data_type;
-            TangoDataFormat<T> dataFormat = TangoDataFormat.createForAttrDataFormat(attributeInfo.toAttributeInfo().data_format);
-            dataFormat.insert(dataWrapper, value, devDataType);
+            DeviceAttribute deviceAttribute = newDeviceAttribute(attrName, value);
             this.proxy.write_attribute(deviceAttribute);
+            valueCache.invalidate(attrName);
         } catch (DevFailed e) {
             logger.debug("DeviceProxyWrapper#writeAttribute has failed. {}/{}={}", getName(), attrName, value);
             throw new WriteAttributeException(getName(), attrName, e);
@@ -240,6 +785,16 @@ public final class DeviceProxyWrapper implements TangoProxy {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> DeviceAttribute newDeviceAttribute(String attrName, T value) throws TangoProxyException, NoSuchAttributeException, ValueInsertionException {
+        DeviceAttribute deviceAttribute = new DeviceAttribute(attrName);
+        TangoAttributeInfoWrapper attributeInfo = getAttributeInfo(attrName);
+        TangoDataWrapper dataWrapper = TangoDataWrapper.create(deviceAttribute, attributeInfo);
+        TangoDataFormat<T> dataFormat = (TangoDataFormat<T>) attributeInfo.getFormat();
+        dataFormat.insert(dataWrapper, value, (TangoDataType<T>) attributeInfo.getType());
+        return deviceAttribute;
+    }
+
     @Override
     public <V> V executeCommand(String cmd) throws ExecuteCommandException, NoSuchCommandException {
         return executeCommand(cmd, null);
@@ -260,28 +815,22 @@ public final class DeviceProxyWrapper implements TangoProxy {
     public <T, V> V executeCommand(String cmd, T value) throws ExecuteCommandException, NoSuchCommandException {
         logger.trace("DeviceProxyWrapper#executeCommand {}/{}({})", getName(), cmd, value);
         try {
-            DeviceData argin = new DeviceData();
-            TangoDataWrapper arginWrapper = TangoDeviceAttributeWrapper.create(argin);
-            TangoCommandInfoWrapper cmdInfo = getCommandInfo(cmd);
-            TangoDataType<T> typeIn = TangoDataTypes.forTangoDevDataType(cmdInfo.toCommandInfo().in_type);
-            typeIn.insert(arginWrapper, value);
-
-            DeviceData argout = this.proxy.command_inout(cmd, argin);
-            TangoDataWrapper argoutWrapper = TangoDataWrapper.create(argout);
-
-            TangoDataType<V> typeOut = TangoDataTypes.forTangoDevDataType(cmdInfo.toCommandInfo().out_type);
-            return typeOut.extract(argoutWrapper);
+            DeviceData argout = this.proxy.command_inout(cmd, newArgin(cmd, value));
+            return extractArgout(cmd, argout);
         } catch (DevFailed e) {
             logger.debug("DeviceProxyWrapper#executeCommand has failed. {}/{}({})", getName(), cmd, value);
+            dropUnvalidatedCommandInfo(cmd);
             throw new ExecuteCommandException(getName(), cmd, e);
         } catch (ValueExtractionException e) {
             logger.debug("DeviceProxyWrapper#executeCommand has failed. {}/{}({})", getName(), cmd, value);
+            dropUnvalidatedCommandInfo(cmd);
             throw new ExecuteCommandException(getName(), cmd, e);
         } catch (UnknownTangoDataType unknownTangoDataType) {
             logger.debug("DeviceProxyWrapper#executeCommand has failed. {}/{}({})", getName(), cmd, value);
             throw new AssertionError(unknownTangoDataType);
         } catch (ValueInsertionException e) {
             logger.debug("DeviceProxyWrapper#executeCommand has failed. {}/{}({})", getName(), cmd, value);
+            dropUnvalidatedCommandInfo(cmd);
             throw new ExecuteCommandException(getName(), cmd, e);
         } catch (TangoProxyException e) {
             logger.debug("DeviceProxyWrapper#executeCommand has failed. {}/{}({})", getName(), cmd, value);
@@ -289,24 +838,372 @@ public final class DeviceProxyWrapper implements TangoProxy {
         }
     }
 
+    private <T> DeviceData newArgin(String cmd, T value) throws TangoProxyException, NoSuchCommandException, UnknownTangoDataType, ValueInsertionException {
+        DeviceData argin = new DeviceData();
+        TangoDataWrapper arginWrapper = TangoDeviceAttributeWrapper.create(argin);
+        TangoCommandInfoWrapper cmdInfo = getCommandInfo(cmd);
+        TangoDataType<T> typeIn = TangoDataTypes.forTangoDevDataType(cmdInfo.toCommandInfo().in_type);
+        typeIn.insert(arginWrapper, value);
+        return argin;
+    }
+
+    private <V> V extractArgout(String cmd, DeviceData argout) throws TangoProxyException, NoSuchCommandException, UnknownTangoDataType, ValueExtractionException {
+        TangoDataWrapper argoutWrapper = TangoDataWrapper.create(argout);
+        TangoCommandInfoWrapper cmdInfo = getCommandInfo(cmd);
+        if (!unvalidatedCommands.isEmpty() && unvalidatedCommands.remove(metadataKey(cmd)))
+            cmdInfo = validateCommandInfo(cmd, cmdInfo, argout);
+        TangoDataType<V> typeOut = TangoDataTypes.forTangoDevDataType(cmdInfo.toCommandInfo().out_type);
+        return typeOut.extract(argoutWrapper);
+    }
+
+    /**
+     * Checks info loaded from persistent cache against actual argout and refreshes it if data type does not match.
+     * Void argout carries no type, so such info is accepted as is.
+     */
+    private TangoCommandInfoWrapper validateCommandInfo(String cmd, TangoCommandInfoWrapper commandInfo, DeviceData argout) throws TangoProxyException, NoSuchCommandException {
+        int outType = commandInfo.toCommandInfo().out_type;
+        try {
+            if (outType == TangoConst.Tango_DEV_VOID || outType == argout.getType()) return commandInfo;
+        } catch (DevFailed devFailed) {
+            logger.debug("DeviceProxyWrapper#validateCommandInfo can not get type of argout. {}/{}", getName(), cmd);
+        }
+        logger.debug("DeviceProxyWrapper#validateCommandInfo refreshes stale info. {}/{}", getName(), cmd);
+        this.commandInfo.remove(metadataKey(cmd), commandInfo);
+        return getCommandInfo(cmd);
+    }
+
+    /**
+     * Drops info loaded from persistent cache if the command has failed before the info was validated,
+     * so that the next call queries it again
+     */
+    private void dropUnvalidatedCommandInfo(String cmd) {
+        if (!unvalidatedCommands.isEmpty() && unvalidatedCommands.remove(metadataKey(cmd))) {
+            logger.debug("DeviceProxyWrapper#dropUnvalidatedCommandInfo {}/{}", getName(), cmd);
+            commandInfo.remove(metadataKey(cmd));
+        }
+    }
+
+    /**
+     * Sends {@link DeviceProxy#read_attribute_asynch(String)}, its reply is polled by {@link #ASYNC_REPLIES} and converted by this proxy's executor.
+     * Calling thread does not wait for the device, unless the device has not been connected yet.
+     * <p/>
+     * Returns value cached by {@link #setValueCacheMaxAge(String, long, TimeUnit)} if it is fresh enough, but does not populate the cache.
+     *
+     * @param attrName name
+     * @param <T>      type of value
+     * @return a future of the value
+     */
+    @Override
+    public <T> CompletableFuture<T> readAttributeAsync(String attrName) {
+        logger.trace("DeviceProxyWrapper#readAttributeAsync {}/{}", getName(), attrName);
+        return readAttributeAsync(attrName, false, 0L);
+    }
+
+    /**
+     * @param timed    true if deadline applies
+     * @param deadline see {@link System#nanoTime()}
+     */
+    private <T> CompletableFuture<T> readAttributeAsync(String attrName, boolean timed, long deadline) {
+        DeviceAttribute cached = valueCache.peek(attrName);
+        if (cached != null)
+            return convertAsync(CompletableFuture.completedFuture(cached), deviceAttribute -> this.<T>readAttributeValue(attrName, deviceAttribute),
+                    e -> readFailure(attrName, e));
+        return callAsync(attributeInfo.containsKey(metadataKey(attrName)), () -> {
+            getAttributeInfo(attrName);
+            int id = proxy.read_attribute_asynch(attrName);
+            return new TangoAsyncReplies.Request<DeviceAttribute>() {
+                @Override
+                public DeviceAttribute poll() throws DevFailed {
+                    try {
+                        return proxy.read_attribute_reply(id)[0];
+                    } catch (AsynReplyNotArrived e) {
+                        return null;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelAsynchRequest(id);
+                }
+            };
+        }, timed, deadline, deviceAttribute -> this.<T>readAttributeValue(attrName, deviceAttribute), e -> readFailure(attrName, e));
+    }
+
+    /**
+     * Sends {@link DeviceProxy#write_attribute_asynch(DeviceAttribute)}, see {@link #readAttributeAsync(String)}
+     */
+    @Override
+    public <T> CompletableFuture<Void> writeAttributeAsync(String attrName, T value) {
+        logger.trace("DeviceProxyWrapper#writeAttributeAsync {}/{}={}", getName(), attrName, value);
+        return writeAttributeAsync(attrName, value, false, 0L);
+    }
+
+    private <T> CompletableFuture<Void> writeAttributeAsync(String attrName, T value, boolean timed, long deadline) {
+        return callAsync(attributeInfo.containsKey(metadataKey(attrName)), () -> {
+            int id = proxy.write_attribute_asynch(newDeviceAttribute(attrName, value));
+            return new TangoAsyncReplies.Request<Boolean>() {
+                @Override
+                public Boolean poll() throws DevFailed {
+                    try {
+                        proxy.write_attribute_reply(id);
+                        return Boolean.TRUE;
+                    } catch (AsynReplyNotArrived e) {
+                        return null;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelAsynchRequest(id);
+                }
+            };
+        }, timed, deadline, written -> {
+            valueCache.invalidate(attrName);
+            return null;
+        }, e -> writeFailure(attrName, e));
+    }
+
+    @Override
+    public <V> CompletableFuture<V> executeCommandAsync(String cmd) {
+        return executeCommandAsync(cmd, null);
+    }
+
+    /**
+     * Sends {@link DeviceProxy#command_inout_asynch(String, DeviceData)}, see {@link #readAttributeAsync(String)}
+     */
+    @Override
+    public <T, V> CompletableFuture<V> executeCommandAsync(String cmd, T value) {
+        logger.trace("DeviceProxyWrapper#executeCommandAsync {}/{}({})", getName(), cmd, value);
+        return executeCommandAsync(cmd, value, false, 0L);
+    }
+
+    private <T, V> CompletableFuture<V> executeCommandAsync(String cmd, T value, boolean timed, long deadline) {
+        return callAsync(commandInfo.containsKey(metadataKey(cmd)), () -> {
+            int id = proxy.command_inout_asynch(cmd, newArgin(cmd, value));
+            return new TangoAsyncReplies.Request<DeviceData>() {
+                @Override
+                public DeviceData poll() throws DevFailed {
+                    try {
+                        return proxy.command_inout_reply(id);
+                    } catch (AsynReplyNotArrived e) {
+                        return null;
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelAsynchRequest(id);
+                }
+            };
+        }, timed, deadline, argout -> this.<V>extractArgout(cmd, argout), e -> executeFailure(cmd, e));
+    }
+
+    /**
+     * Sends request by the calling thread if it does not have to load metadata first, by {@link #lane} otherwise.
+     * Reply is converted by asyncExecutor. Request is dropped once the returned future is completed, i.e. cancelled,
+     * or once deadline has passed, so that a hung device does not hold any thread.
+     *
+     * @param ready     true if metadata required to send request is known
+     * @param send      sends request
+     * @param timed     true if deadline applies
+     * @param deadline  see {@link System#nanoTime()}
+     * @param converter converts reply
+     * @param failure   maps failure to exception of the synchronous counterpart
+     */
+    private <R, V> CompletableFuture<V> callAsync(boolean ready, Callable<TangoAsyncReplies.Request<R>> send, boolean timed, long deadline,
+                                                  ReplyConverter<R, V> converter, Function<Throwable, Throwable> failure) {
+        CompletableFuture<V> result = new CompletableFuture<V>();
+        Runnable start = () -> {
+            //cancelled before the request has been sent
+            if (result.isDone()) return;
+            TangoAsyncReplies.Request<R> request;
+            try {
+                request = send.call();
+            } catch (Exception e) {
+                logger.debug("DeviceProxyWrapper#callAsync has failed. {}", getName());
+                result.completeExceptionally(failure.apply(e));
+                return;
+            }
+            CompletableFuture<R> reply = timed ?
+                    ASYNC_REPLIES.add(request, deadline - System.nanoTime(), TimeUnit.NANOSECONDS) :
+                    ASYNC_REPLIES.add(request);
+            result.whenComplete((value, e) -> reply.cancel(false));
+            convertAsync(reply, converter, failure).whenComplete((value, e) -> {
+                if (e != null) result.completeExceptionally(e);
+                else result.complete(value);
+            });
+        };
+        if (ready) {
+            start.run();
+        } else {
+            try {
+                lane.execute(start);
+            } catch (RejectedExecutionException e) {
+                logger.debug("DeviceProxyWrapper#callAsync has been rejected. {}", getName());
+                result.completeExceptionally(e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return future completed by asyncExecutor with converted reply
+     */
+    private <R, V> CompletableFuture<V> convertAsync(CompletableFuture<R> reply, ReplyConverter<R, V> converter, Function<Throwable, Throwable> failure) {
+        CompletableFuture<V> result = new CompletableFuture<V>();
+        reply.whenComplete((value, e) -> {
+            try {
+                asyncExecutor.execute(() -> {
+                    if (e != null) {
+                        result.completeExceptionally(failure.apply(e instanceof CompletionException ? e.getCause() : e));
+                        return;
+                    }
+                    try {
+                        result.complete(converter.convert(value));
+                    } catch (Exception ex) {
+                        logger.debug("DeviceProxyWrapper#convertAsync has failed. {}", getName());
+                        result.completeExceptionally(failure.apply(ex));
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                logger.debug("DeviceProxyWrapper#convertAsync has been rejected. {}", getName());
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    private void cancelAsynchRequest(int id) {
+        try {
+            proxy.cancel_asynch_request(id);
+        } catch (Exception e) {
+            logger.debug("DeviceProxyWrapper#cancelAsynchRequest has failed. {}/{}", getName(), id);
+        }
+    }
+
+    /**
+     * Maps failure of asynchronous call to the same exception its synchronous counterpart throws
+     */
+    private Throwable readFailure(String attrName, Throwable e) {
+        if (e instanceof TimeoutException) return new TangoTimeoutException(getName(), "Reply has not arrived in time");
+        if (e instanceof DevFailed || e instanceof ValueExtractionException)
+            try {
+                return readFailed("readAttributeAsync", attrName, (Exception) e);
+            } catch (NoSuchAttributeException ex) {
+                return ex;
+            }
+        if (e instanceof TangoProxyException && !(e instanceof TangoTimeoutException))
+            return new ReadAttributeException(getName(), attrName, ((TangoProxyException) e).devFailed);
+        return e;
+    }
+
+    private Throwable readAttributesFailure(String[] attrNames, Throwable e) {
+        if (e instanceof TimeoutException) return new TangoTimeoutException(getName(), "Reply has not arrived in time");
+        if (e instanceof DevFailed) return new ReadAttributeException(getName(), String.join(",", attrNames), (DevFailed) e);
+        if (e instanceof TangoProxyException && !(e instanceof TangoTimeoutException))
+            return new ReadAttributeException(getName(), String.join(",", attrNames), ((TangoProxyException) e).devFailed);
+        return e;
+    }
+
+    private Throwable writeFailure(String attrName, Throwable e) {
+        if (e instanceof TimeoutException) return new TangoTimeoutException(getName(), "Reply has not arrived in time");
+        if (e instanceof DevFailed) return new WriteAttributeException(getName(), attrName, (DevFailed) e);
+        if (e instanceof ValueInsertionException) return new WriteAttributeException(getName(), attrName, (ValueInsertionException) e);
+        if (e instanceof TangoProxyException && !(e instanceof TangoTimeoutException))
+            return new WriteAttributeException(getName(), attrName, ((TangoProxyException) e).devFailed);
+        return e;
+    }
+
+    private Throwable executeFailure(String cmd, Throwable e) {
+        if (e instanceof TimeoutException) return new TangoTimeoutException(getName(), "Reply has not arrived in time");
+        if (e instanceof DevFailed) {
+            dropUnvalidatedCommandInfo(cmd);
+            return new ExecuteCommandException(getName(), cmd, (DevFailed) e);
+        }
+        if (e instanceof ValueExtractionException || e instanceof ValueInsertionException) {
+            dropUnvalidatedCommandInfo(cmd);
+            return new ExecuteCommandException(getName(), cmd, (Exception) e);
+        }
+        if (e instanceof UnknownTangoDataType) return new AssertionError(e);
+        if (e instanceof TangoProxyException && !(e instanceof TangoTimeoutException))
+            return new ExecuteCommandException(getName(), cmd, ((TangoProxyException) e).devFailed);
+        return e;
+    }
+
+    @Override
+    public <T> T readAttribute(String attrName, long timeout, TimeUnit unit) throws ReadAttributeException, NoSuchAttributeException, TangoTimeoutException {
+        logger.trace("DeviceProxyWrapper#readAttribute {}/{} within {} {}", getName(), attrName, timeout, unit);
+        try {
+            return await(this.<T>readAttributeAsync(attrName, true, System.nanoTime() + unit.toNanos(timeout)), timeout, unit);
+        } catch (TangoTimeoutException | ReadAttributeException | NoSuchAttributeException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReadAttributeException(getName(), attrName, e);
+        }
+    }
+
+    @Override
+    public <T> void writeAttribute(String attrName, T value, long timeout, TimeUnit unit) throws WriteAttributeException, NoSuchAttributeException, TangoTimeoutException {
+        logger.trace("DeviceProxyWrapper#writeAttribute {}/{}={} within {} {}", getName(), attrName, value, timeout, unit);
+        try {
+            await(writeAttributeAsync(attrName, value, true, System.nanoTime() + unit.toNanos(timeout)), timeout, unit);
+        } catch (TangoTimeoutException | WriteAttributeException | NoSuchAttributeException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new WriteAttributeException(getName(), attrName, e);
+        }
+    }
+
+    @Override
+    public <T, V> V executeCommand(String cmd, T value, long timeout, TimeUnit unit) throws ExecuteCommandException, NoSuchCommandException, TangoTimeoutException {
+        logger.trace("DeviceProxyWrapper#executeCommand {}/{}({}) within {} {}", getName(), cmd, value, timeout, unit);
+        try {
+            return await(this.<T, V>executeCommandAsync(cmd, value, true, System.nanoTime() + unit.toNanos(timeout)), timeout, unit);
+        } catch (TangoTimeoutException | ExecuteCommandException | NoSuchCommandException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExecuteCommandException(getName(), cmd, e);
+        }
+    }
+
+    /**
+     * @return result of the call
+     * @throws TangoTimeoutException if the call has not completed in time or has failed due to Tango client timeout
+     * @throws InterruptedException  if current thread has been interrupted, interrupted flag is restored
+     * @throws Exception             failure of the call as is
+     */
+    private <V> V await(CompletableFuture<V> call, long timeout, TimeUnit unit) throws Exception {
+        try {
+            return call.get(timeout, unit);
+        } catch (TimeoutException e) {
+            logger.debug("DeviceProxyWrapper#await has timed out. {} after {} {}", getName(), timeout, unit);
+            //request is cancelled on the Tango side as well
+            call.cancel(false);
+            throw new TangoTimeoutException(getName(), "Call has not completed within " + timeout + " " + unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TangoProxyException && TangoTimeoutException.isTimeout(((TangoProxyException) cause).devFailed))
+                throw new TangoTimeoutException(getName(), ((TangoProxyException) cause).devFailed);
+            if (cause instanceof Exception) throw (Exception) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new AssertionError(cause);
+        }
+    }
+
     @Override
     public boolean subscribeToEvent(String attrName, TangoEvent event) throws TangoProxyException {
         logger.trace("DeviceProxyWrapper#subscribeToEvent {}/{}.{}", getName(), attrName, event);
         //TODO filters
         String[] filters = new String[0];
         String eventKey = getEventKey(attrName, event);
-
-        TangoEventDispatcher<?> dispatcher = dispatchers.get(eventKey);
-
-        if (dispatcher != null) return false;
-
-        dispatcher = new TangoEventDispatcher<Object>();
-        TangoEventDispatcher<?> oldDispatcher = dispatchers.putIfAbsent(eventKey, dispatcher);
-        if (oldDispatcher != null) dispatcher = oldDispatcher;//this may create unused dispatcher instance
+        TangoEventDispatcher<?> dispatcher = obtainDispatcher(attrName, event);
 
         try {
             synchronized (subscriptionGuard) {
-                if (subscriptionSet.contains(eventKey)) return false;
+                if (subscribedEvents.containsKey(eventKey)) return false;
                 switch (event) {
                     case CHANGE:
                         eventsAdapter.addTangoChangeListener(dispatcher, attrName, filters, true);
@@ -323,7 +1220,8 @@ public final class DeviceProxyWrapper implements TangoProxy {
                     default:
                         throw new IllegalArgumentException("Unknown TangoEvent:" + event);
                 }
-                return subscriptionSet.add(eventKey);
+                subscribedEvents.put(eventKey, new SubscribedEvent(attrName, event));
+                return true;
             }
         } catch (DevFailed devFailed) {
             logger.debug("DeviceProxyWrapper#subscribeToEvent has failed. {}/{}.{}", getName(), attrName, event);
@@ -331,6 +1229,33 @@ public final class DeviceProxyWrapper implements TangoProxy {
         }
     }
 
+    /**
+     * Returns dispatcher of the event, creates one if there is none yet. Listeners added to a new dispatcher
+     * before subscription receive the very first event, i.e. the one Tango sends on subscription.
+     */
+    private TangoEventDispatcher<?> obtainDispatcher(String attrName, TangoEvent event) {
+        String eventKey = getEventKey(attrName, event);
+        TangoEventDispatcher<?> dispatcher = dispatchers.get(eventKey);
+        if (dispatcher != null) return dispatcher;
+
+        dispatcher = new TangoEventDispatcher<Object>(findAttributeInfo(attrName));
+        if (event == TangoEvent.CHANGE) dispatcher.setRawSink(signal -> valueCache.offer(attrName, signal));
+        TangoEventDispatcher<?> oldDispatcher = dispatchers.putIfAbsent(eventKey, dispatcher);
+        return oldDispatcher != null ? oldDispatcher : dispatcher;//this may create unused dispatcher instance
+    }
+
+    /**
+     * @return attribute info or null if it can not be obtained
+     */
+    private TangoAttributeInfoWrapper findAttributeInfo(String attrName) {
+        try {
+            return getAttributeInfo(attrName);
+        } catch (TangoProxyException | NoSuchAttributeException e) {
+            logger.debug("DeviceProxyWrapper#findAttributeInfo has failed. {}/{}", getName(), attrName);
+            return null;
+        }
+    }
+
     private String getEventKey(String attrName, TangoEvent event) {
         return this.proxy.name() + "/" + attrName + "." + event.name().toLowerCase();
     }
@@ -345,6 +1270,40 @@ public final class DeviceProxyWrapper implements TangoProxy {
         dispatcher.addListener(listener);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void addEventListener(String attrName, TangoEvent event, TangoEventListener<T> listener, Executor executor, int capacity, EventOverflowPolicy policy) {
+        logger.trace("DeviceProxyWrapper#addEventListener {}/{}.{}={}", getName(), attrName, event, listener);
+        String eventKey = getEventKey(attrName, event);
+        TangoEventDispatcher<T> dispatcher = (TangoEventDispatcher<T>) dispatchers.get(eventKey);//T is irrelevant at runtime
+        if (dispatcher == null)
+            throw new IllegalStateException(String.format("Client is not subscribed to %s/%s.%s", getName(), attrName, event));
+        dispatcher.addListener(listener, executor, capacity, policy);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> LatestEventSlot<T> addLatestEventSlot(String attrName, TangoEvent event) {
+        logger.trace("DeviceProxyWrapper#addLatestEventSlot {}/{}.{}", getName(), attrName, event);
+        String eventKey = getEventKey(attrName, event);
+        TangoEventDispatcher<T> dispatcher = (TangoEventDispatcher<T>) dispatchers.get(eventKey);
+        if (dispatcher == null)
+            throw new IllegalStateException(String.format("Client is not subscribed to %s/%s.%s", getName(), attrName, event));
+        LatestEventSlot<T> result = new LatestEventSlot<T>(getName(), attrName, dispatcher);
+        dispatcher.addSlot(result);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void removeLatestEventSlot(String attrName, TangoEvent event, LatestEventSlot<T> slot) {
+        logger.trace("DeviceProxyWrapper#removeLatestEventSlot {}/{}.{}={}", getName(), attrName, event, slot);
+        String eventKey = getEventKey(attrName, event);
+        TangoEventDispatcher<T> dispatcher = (TangoEventDispatcher<T>) dispatchers.get(eventKey);
+        if (dispatcher == null) return;
+        dispatcher.removeSlot(slot);
+    }
+
     @Override
     public <T> void removeEventListener(String attrName, TangoEvent event, TangoEventListener<T> listener) {
         logger.trace("DeviceProxyWrapper#removeEventListener {}/{}.{}={}", getName(), attrName, event, listener);
@@ -354,6 +1313,91 @@ public final class DeviceProxyWrapper implements TangoProxy {
         dispatcher.removeListener(listener);
     }
 
+    @Override
+    public <T> Flow.Publisher<EventData<T>> newEventPublisher(String attrName, TangoEvent event, int bufferSize) {
+        logger.trace("DeviceProxyWrapper#newEventPublisher {}/{}.{}", getName(), attrName, event);
+        return new TangoEventPublisher<T>(this, attrName, event, bufferSize);
+    }
+
+    /**
+     * Adds listener and subscribes to the event on behalf of a {@link TangoEventPublisher} subscriber.
+     * Listener is added before subscription, so that it does not miss the first event, and is removed if subscription fails.
+     */
+    @SuppressWarnings("unchecked")
+    <T> void acquireEventSubscription(String attrName, TangoEvent event, TangoEventListener<T> listener) throws TangoProxyException, NoSuchAttributeException {
+        String eventKey = getEventKey(attrName, event);
+        synchronized (publisherGuard) {
+            TangoEventDispatcher<T> dispatcher = (TangoEventDispatcher<T>) obtainDispatcher(attrName, event);//T is irrelevant at runtime
+            dispatcher.addListener(listener);
+            Integer count = publisherSubscriptions.get(eventKey);
+            if (count == null) {
+                try {
+                    //subscription that is going to be dropped is still alive, so just keep it
+                    if (publisherOwnedSubscriptions.contains(eventKey) || subscribeToEvent(attrName, event))
+                        publisherOwnedSubscriptions.add(eventKey);
+                } catch (TangoProxyException | RuntimeException e) {
+                    dispatcher.removeListener(listener);
+                    throw e;
+                }
+                count = 0;
+            }
+            publisherSubscriptions.put(eventKey, count + 1);
+        }
+    }
+
+    /**
+     * Unsubscribes from the event when the last {@link TangoEventPublisher} subscriber has left,
+     * unless subscription was performed by somebody else. Unsubscription is performed by {@link #lane},
+     * as this may be called from Tango event thread.
+     */
+    void releaseEventSubscription(String attrName, TangoEvent event) {
+        String eventKey = getEventKey(attrName, event);
+        synchronized (publisherGuard) {
+            Integer count = publisherSubscriptions.get(eventKey);
+            if (count == null) return;
+            if (count > 1) {
+                publisherSubscriptions.put(eventKey, count - 1);
+                return;
+            }
+            publisherSubscriptions.remove(eventKey);
+            if (!publisherOwnedSubscriptions.contains(eventKey)) return;
+        }
+        Runnable unsubscribe = () -> {
+            synchronized (publisherGuard) {
+                //a new subscriber has arrived meanwhile
+                if (publisherSubscriptions.containsKey(eventKey) || !publisherOwnedSubscriptions.remove(eventKey))
+                    return;
+                try {
+                    unsubscribeFromEvent(attrName, event);
+                } catch (TangoProxyException e) {
+                    logger.warn("DeviceProxyWrapper#releaseEventSubscription has failed. {}/{}.{}", getName(), attrName, event, e);
+                }
+            }
+        };
+        try {
+            lane.execute(unsubscribe);
+        } catch (RejectedExecutionException e) {
+            unsubscribe.run();
+        }
+    }
+
+    /**
+     * Drops all Tango event subscriptions of this proxy, i.e. when it is evicted from {@link TangoProxyRegistry}
+     */
+    void unsubscribeFromAllEvents() {
+        List<SubscribedEvent> events;
+        synchronized (subscriptionGuard) {
+            events = new ArrayList<SubscribedEvent>(subscribedEvents.values());
+        }
+        for (SubscribedEvent subscribed : events) {
+            try {
+                unsubscribeFromEvent(subscribed.attrName, subscribed.event);
+            } catch (TangoProxyException e) {
+                logger.warn("DeviceProxyWrapper#unsubscribeFromAllEvents has failed. {}/{}.{}", getName(), subscribed.attrName, subscribed.event, e);
+            }
+        }
+    }
+
     @Override
     public void unsubscribeFromEvent(String attrName, TangoEvent event) throws TangoProxyException {
         logger.trace("DeviceProxyWrapper#unsubscribeFromEvent {}/{}.{}", getName(), attrName, event);
@@ -365,7 +1409,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
 
         try {
             synchronized (subscriptionGuard) {
-                if (!subscriptionSet.contains(eventKey)) return;
+                if (!subscribedEvents.containsKey(eventKey)) return;
                 switch (event) {
                     case CHANGE:
                         eventsAdapter.removeTangoChangeListener(dispatcher, attrName);
@@ -382,7 +1426,7 @@ public final class DeviceProxyWrapper implements TangoProxy {
                     default:
                         throw new IllegalArgumentException("Unknown TangoEvent:" + event);
                 }
-                subscriptionSet.remove(eventKey);
+                subscribedEvents.remove(eventKey);
             }
 
         } catch (DevFailed devFailed) {
@@ -408,26 +1452,22 @@ public final class DeviceProxyWrapper implements TangoProxy {
     @Override
     public TangoAttributeInfoWrapper getAttributeInfo(String attrName) throws TangoProxyException, NoSuchAttributeException {
         logger.trace("DeviceProxyWrapper#getAttributeInfo {}/{}", getName(), attrName);
-        TangoAttributeInfoWrapper attrInf = attributeInfo.get(attrName);
+        String key = metadataKey(attrName);
+        TangoAttributeInfoWrapper attrInf = attributeInfo.get(key);
         if (attrInf != null) return attrInf;
-        synchronized (attributeInfoQueryGuard) {
-            //double check
-            attrInf = attributeInfo.get(attrName);
-            if (attrInf != null) return attrInf;
-
+        if (isKnownMissing(missingAttributes, key)) throw NoSuchAttributeException.newInstance();
+        return loadMetadata(key, attributeInfo, attributeInfoQueries, missingAttributes, NoSuchAttributeException.class, () -> {
             try {
                 AttributeInfoEx info = proxy.get_attribute_info_ex(attrName);
-                attrInf = new TangoAttributeInfoWrapper(info);
-                attributeInfo.put(attrName, attrInf);
-                return attrInf;
+                return new TangoAttributeInfoWrapper(info);
             } catch (DevFailed devFailed) {
                 if (devFailed.errors.length > 0 && API_ATTR_NOT_FOUND.equalsIgnoreCase(devFailed.errors[0].reason))
-                    throw new NoSuchAttributeException();
+                    throw NoSuchAttributeException.newInstance();
                 else throw new TangoProxyException(getName(), devFailed);
             } catch (UnknownTangoDataType unknownTangoDataType) {
                 throw new AssertionError(unknownTangoDataType);
             }
-        }
+        });
     }
 
     /**
@@ -456,26 +1496,121 @@ public final class DeviceProxyWrapper implements TangoProxy {
     @Override
     public TangoCommandInfoWrapper getCommandInfo(String cmdName) throws TangoProxyException, NoSuchCommandException {
         logger.trace("DeviceProxyWrapper#getCommandInfo {}/{}", getName(), cmdName);
-        TangoCommandInfoWrapper cmdInf = commandInfo.get(cmdName);
+        String key = metadataKey(cmdName);
+        TangoCommandInfoWrapper cmdInf = commandInfo.get(key);
         if (cmdInf != null) return cmdInf;
-        //only one thread actually queries remote tango
-        synchronized (commandInfoQueryGuard) {
-            //double check whether other thread might already query info
-            cmdInf = commandInfo.get(cmdName);
-            if (cmdInf != null) return cmdInf;
-
+        if (isKnownMissing(missingCommands, key)) throw NoSuchCommandException.newInstance();
+        return loadMetadata(key, commandInfo, commandInfoQueries, missingCommands, NoSuchCommandException.class, () -> {
             try {
                 CommandInfo info = proxy.command_query(cmdName);
-                cmdInf = new TangoCommandInfoWrapper(info);
-                commandInfo.put(cmdName, cmdInf);
-                return cmdInf;
+                return new TangoCommandInfoWrapper(info);
             } catch (DevFailed devFailed) {
                 if (devFailed.errors.length > 0 && API_COMMAND_NOT_FOUND.equalsIgnoreCase(devFailed.errors[0].reason))
-                    throw new NoSuchCommandException();
+                    throw NoSuchCommandException.newInstance();
                 else throw new TangoProxyException(getName(), devFailed);
             } catch (UnknownTangoDataType e) {
                 throw new AssertionError(e);
             }
+        });
+    }
+
+    /**
+     * Single-flight metadata loading: only one thread per name actually queries remote tango, others wait for its result.
+     * Queries for different names run concurrently.
+     *
+     * @param name     attribute or command name, see {@link #metadataKey(String)}
+     * @param cache    attributeInfo or commandInfo
+     * @param queries  in-flight queries
+     * @param missing  names known not to exist, name is added here if query throws notFound
+     * @param notFound type of exception that indicates that there is no such attribute or command
+     * @param query    remote query
+     */
+    private <V, E extends Exception> V loadMetadata(String name, ConcurrentMap<String, V> cache, ConcurrentMap<String, CompletableFuture<V>> queries,
+                                                    ConcurrentMap<String, Long> missing, Class<E> notFound, MetadataQuery<V, E> query) throws TangoProxyException, E {
+        CompletableFuture<V> ownQuery = new CompletableFuture<V>();
+        CompletableFuture<V> inFlight = queries.putIfAbsent(name, ownQuery);
+        if (inFlight == null) {
+            try {
+                //double check whether other thread might have just completed the query
+                V result = cache.get(name);
+                if (result == null) {
+                    result = query.query();
+                    cache.put(name, result);
+                    storeMetadata();
+                }
+                ownQuery.complete(result);
+                return result;
+            } catch (Throwable e) {
+                if (notFound.isInstance(e) && missingNameTtlNanos > 0) missing.put(name, System.nanoTime() + missingNameTtlNanos);
+                ownQuery.completeExceptionally(e);
+                throw e;
+            } finally {
+                queries.remove(name, ownQuery);
+            }
+        }
+
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TangoProxyException(getName(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (notFound.isInstance(cause)) throw notFound.cast(cause);
+            if (cause instanceof TangoProxyException) throw (TangoProxyException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new AssertionError(cause);
+        }
+    }
+
+    /**
+     * @return key of attribute or command metadata, the same for any case of the name
+     */
+    private static String metadataKey(String name) {
+        return name.toLowerCase();
+    }
+
+    private static boolean isKnownMissing(ConcurrentMap<String, Long> missing, String name) {
+        Long expiration = missing.get(name);
+        if (expiration == null) return false;
+        if (expiration - System.nanoTime() > 0) return true;
+        missing.remove(name, expiration);
+        return false;
+    }
+
+    /**
+     * Queries infos of all attributes and commands via {@link DeviceProxy#get_attribute_info_ex()} and
+     * {@link DeviceProxy#command_list_query()}. Attributes and commands of unknown data type are skipped.
+     *
+     * @throws TangoProxyException
+     */
+    @Override
+    public void prefetchMetadata() throws TangoProxyException {
+        logger.trace("DeviceProxyWrapper#prefetchMetadata {}", getName());
+        try {
+            for (AttributeInfoEx info : proxy.get_attribute_info_ex()) {
+                try {
+                    attributeInfo.put(metadataKey(info.name), new TangoAttributeInfoWrapper(info));
+                } catch (UnknownTangoDataType unknownTangoDataType) {
+                    logger.debug("DeviceProxyWrapper#prefetchMetadata skips attribute of unknown data type. {}/{}", getName(), info.name);
+                }
+            }
+            for (CommandInfo info : proxy.command_list_query()) {
+                try {
+                    commandInfo.put(metadataKey(info.cmd_name), new TangoCommandInfoWrapper(info));
+                } catch (UnknownTangoDataType unknownTangoDataType) {
+                    logger.debug("DeviceProxyWrapper#prefetchMetadata skips command of unknown data type. {}/{}", getName(), info.cmd_name);
+                }
+            }
+            unvalidatedAttributes.clear();
+            unvalidatedCommands.clear();
+            missingAttributes.clear();
+            missingCommands.clear();
+            storeMetadata();
+        } catch (DevFailed devFailed) {
+            logger.debug("DeviceProxyWrapper#prefetchMetadata has failed. {}", getName());
+            throw new TangoProxyException(getName(), devFailed);
         }
     }
 
@@ -503,5 +1638,32 @@ public final class DeviceProxyWrapper implements TangoProxy {
     public void reset() {
         commandInfo.clear();
         attributeInfo.clear();
+        unvalidatedAttributes.clear();
+        unvalidatedCommands.clear();
+        missingAttributes.clear();
+        missingCommands.clear();
+        valueCache.clear();
+    }
+
+    private interface MetadataQuery<V, E extends Exception> {
+        V query() throws TangoProxyException, E;
+    }
+
+    private interface ReplyConverter<R, V> {
+        V convert(R reply) throws Exception;
+    }
+
+    private interface DeviceAttributeConverter<R> {
+        R convert(String attrName, DeviceAttribute deviceAttribute) throws TangoProxyException, DevFailed, ValueExtractionException, NoSuchAttributeException;
+    }
+
+    private static final class SubscribedEvent {
+        final String attrName;
+        final TangoEvent event;
+
+        SubscribedEvent(String attrName, TangoEvent event) {
+            this.attrName = attrName;
+            this.event = event;
+        }
     }
 }
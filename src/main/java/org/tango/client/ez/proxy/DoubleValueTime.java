@@ -0,0 +1,25 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Mutable pair of double value and time in milliseconds, filled in by {@link TangoProxy#readDouble(String, DoubleValueTime)}.
+ * Meant to be reused for consecutive reads, so it is not thread-safe.
+ *
+ * @since 17.10.2026
+ */
+public final class DoubleValueTime {
+    private double value;
+    private long time;
+
+    public double getValue() {
+        return value;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    void set(double value, long time) {
+        this.value = value;
+        this.time = time;
+    }
+}
@@ -0,0 +1,26 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Defines what happens when an asynchronous listener's queue is full,
+ * see {@link TangoProxy#addEventListener(String, TangoEvent, TangoEventListener, java.util.concurrent.Executor, int, EventOverflowPolicy)}
+ *
+ * @since 17.10.2026
+ */
+public enum EventOverflowPolicy {
+    /**
+     * Oldest pending event is discarded in favour of the new one
+     */
+    DROP_OLDEST,
+    /**
+     * New event is discarded
+     */
+    DROP_NEWEST,
+    /**
+     * Tango event thread waits until listener frees space in its queue
+     */
+    BLOCK,
+    /**
+     * All pending events are replaced with the new one, i.e. listener always gets the latest value
+     */
+    CONFLATE
+}
@@ -0,0 +1,73 @@
+package org.tango.client.ez.proxy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a call to a single device performed as a part of a {@link TangoProxyGroup} call.
+ * <p/>
+ * Holds either a value or a failure, never both, and the time the call has taken.
+ *
+ * @since 17.10.2026
+ */
+public final class GroupReply<T> {
+    private final TangoProxy proxy;
+    private final T value;
+    private final Exception failure;
+    private final long durationNanos;
+
+    private GroupReply(TangoProxy proxy, T value, Exception failure, long durationNanos) {
+        this.proxy = proxy;
+        this.value = value;
+        this.failure = failure;
+        this.durationNanos = durationNanos;
+    }
+
+    static <T> GroupReply<T> success(TangoProxy proxy, T value, long durationNanos) {
+        return new GroupReply<T>(proxy, value, null, durationNanos);
+    }
+
+    static <T> GroupReply<T> failure(TangoProxy proxy, Exception failure, long durationNanos) {
+        return new GroupReply<T>(proxy, null, failure, durationNanos);
+    }
+
+    public TangoProxy getProxy() {
+        return proxy;
+    }
+
+    public String getDevice() {
+        return proxy.getName();
+    }
+
+    public boolean hasFailed() {
+        return failure != null;
+    }
+
+    /**
+     * @return failure of the call, i.e. {@link ReadAttributeException} or {@link NoSuchAttributeException}; null if call has succeeded
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * @param unit of the result
+     * @return how long the call to this device has taken, not including time it has waited for a thread
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return value
+     * @throws TangoProxyException      if call has failed, other failures are wrapped into TangoProxyException
+     * @throws NoSuchAttributeException if there is no such attribute
+     * @throws NoSuchCommandException   if there is no such command
+     */
+    public T get() throws TangoProxyException, NoSuchAttributeException, NoSuchCommandException {
+        if (failure == null) return value;
+        if (failure instanceof TangoProxyException) throw (TangoProxyException) failure;
+        if (failure instanceof NoSuchAttributeException) throw (NoSuchAttributeException) failure;
+        if (failure instanceof NoSuchCommandException) throw (NoSuchCommandException) failure;
+        throw new TangoProxyException(getDevice(), failure);
+    }
+}
@@ -0,0 +1,25 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Mutable pair of int value and time in milliseconds, filled in by {@link TangoProxy#readInt(String, IntValueTime)}.
+ * Meant to be reused for consecutive reads, so it is not thread-safe.
+ *
+ * @since 17.10.2026
+ */
+public final class IntValueTime {
+    private int value;
+    private long time;
+
+    public int getValue() {
+        return value;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    void set(int value, long time) {
+        this.value = value;
+        this.time = time;
+    }
+}
@@ -0,0 +1,74 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.TangoApi.DeviceAttribute;
+import org.tango.client.ez.data.type.ValueExtractionException;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conflating event subscription: holds only the latest event of the attribute.
+ * <p/>
+ * {@link TangoEventDispatcher} just stores raw event value here, value is extracted only when consumer polls it.
+ * So consumer that is slower than the event rate pays neither for the events it has missed nor blocks Tango event thread.
+ * <p/>
+ * Instances are created by {@link TangoProxy#addLatestEventSlot(String, TangoEvent)} and are kept in a weak reference,
+ * so user must keep reference to the slot as long as it is needed.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+public final class LatestEventSlot<T> {
+    private final String device;
+    private final String attrName;
+    private final TangoEventDispatcher<T> dispatcher;
+    /**
+     * Either {@link DeviceAttribute} or {@link Exception}
+     */
+    private final AtomicReference<Object> latest = new AtomicReference<Object>();
+
+    LatestEventSlot(String device, String attrName, TangoEventDispatcher<T> dispatcher) {
+        this.device = device;
+        this.attrName = attrName;
+        this.dispatcher = dispatcher;
+    }
+
+    void offer(Object signal) {
+        latest.set(signal);
+    }
+
+    /**
+     * @return true if there is an event that has not been polled yet
+     */
+    public boolean hasEvent() {
+        return latest.get() != null;
+    }
+
+    /**
+     * Takes the latest event out of this slot.
+     *
+     * @return the latest event data or null if there was no event since the last poll
+     * @throws ReadAttributeException if the latest event is an error or its value can not be extracted
+     */
+    public EventData<T> poll() throws ReadAttributeException {
+        Object signal = latest.getAndSet(null);
+        if (signal == null) return null;
+        if (signal instanceof Exception) throw toReadAttributeException((Exception) signal);
+        try {
+            return dispatcher.extract((DeviceAttribute) signal);
+        } catch (DevFailed devFailed) {
+            throw new ReadAttributeException(device, attrName, devFailed);
+        } catch (ValueExtractionException e) {
+            throw new ReadAttributeException(device, attrName, e);
+        }
+    }
+
+    private ReadAttributeException toReadAttributeException(Exception error) {
+        if (error instanceof ReadAttributeException) return (ReadAttributeException) error;
+        if (error instanceof TangoProxyException && ((TangoProxyException) error).devFailed != null)
+            return new ReadAttributeException(device, attrName, ((TangoProxyException) error).devFailed);
+        if (error instanceof DevFailed) return new ReadAttributeException(device, attrName, (DevFailed) error);
+        return new ReadAttributeException(device, attrName, error);
+    }
+}
@@ -0,0 +1,25 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Mutable pair of long value and time in milliseconds, filled in by {@link TangoProxy#readLong(String, LongValueTime)}.
+ * Meant to be reused for consecutive reads, so it is not thread-safe.
+ *
+ * @since 17.10.2026
+ */
+public final class LongValueTime {
+    private long value;
+    private long time;
+
+    public long getValue() {
+        return value;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    void set(long value, long time) {
+        this.value = value;
+        this.time = time;
+    }
+}
@@ -5,4 +5,19 @@ package org.tango.client.ez.proxy;
  * @since 17.09.2015
  */
 public class NoSuchAttributeException extends Exception {
+    private static final NoSuchAttributeException SHARED = new NoSuchAttributeException(false);
+
+    public NoSuchAttributeException() {
+    }
+
+    private NoSuchAttributeException(boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+    }
+
+    /**
+     * @return shared immutable instance if {@link TangoProxyException#TANGO_PROXY_EXCEPTION_STACKLESS} is set; a new one otherwise
+     */
+    static NoSuchAttributeException newInstance() {
+        return TangoProxyException.isStackless() ? SHARED : new NoSuchAttributeException();
+    }
 }
@@ -5,4 +5,19 @@ package org.tango.client.ez.proxy;
  * @since 17.09.2015
  */
 public class NoSuchCommandException extends Exception {
+    private static final NoSuchCommandException SHARED = new NoSuchCommandException(false);
+
+    public NoSuchCommandException() {
+    }
+
+    private NoSuchCommandException(boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+    }
+
+    /**
+     * @return shared immutable instance if {@link TangoProxyException#TANGO_PROXY_EXCEPTION_STACKLESS} is set; a new one otherwise
+     */
+    static NoSuchCommandException newInstance() {
+        return TangoProxyException.isStackless() ? SHARED : new NoSuchCommandException();
+    }
 }
@@ -0,0 +1,58 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Outcome of a single attribute read performed as a part of a batched read, see {@link TangoProxy#readAttributes(String...)}.
+ * <p/>
+ * Holds either a value or a failure, never both.
+ *
+ * @since 17.10.2026
+ */
+public final class ReadAttributeResult<T> {
+    private final String attrName;
+    private final T value;
+    private final Exception failure;
+
+    private ReadAttributeResult(String attrName, T value, Exception failure) {
+        this.attrName = attrName;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <T> ReadAttributeResult<T> success(String attrName, T value) {
+        return new ReadAttributeResult<T>(attrName, value, null);
+    }
+
+    static <T> ReadAttributeResult<T> failure(String attrName, ReadAttributeException failure) {
+        return new ReadAttributeResult<T>(attrName, null, failure);
+    }
+
+    static <T> ReadAttributeResult<T> failure(String attrName, NoSuchAttributeException failure) {
+        return new ReadAttributeResult<T>(attrName, null, failure);
+    }
+
+    public String getAttrName() {
+        return attrName;
+    }
+
+    public boolean hasFailed() {
+        return failure != null;
+    }
+
+    /**
+     * @return either {@link ReadAttributeException} or {@link NoSuchAttributeException}; null if read has succeeded
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return value
+     * @throws ReadAttributeException   if read of this attribute has failed
+     * @throws NoSuchAttributeException if there is no such attribute
+     */
+    public T get() throws ReadAttributeException, NoSuchAttributeException {
+        if (failure instanceof ReadAttributeException) throw (ReadAttributeException) failure;
+        if (failure instanceof NoSuchAttributeException) throw (NoSuchAttributeException) failure;
+        return value;
+    }
+}
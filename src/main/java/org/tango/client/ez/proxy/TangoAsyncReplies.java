@@ -0,0 +1,155 @@
+package org.tango.client.ez.proxy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fr.esrf.Tango.DevFailed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Polls replies of asynchronous Tango requests, i.e. {@link fr.esrf.TangoApi.DeviceProxy#read_attribute_asynch(String)},
+ * so that any number of requests may be in flight while no thread is blocked waiting for a device.
+ * <p/>
+ * A single daemon thread checks all pending requests once per period and only while there are some. Replies complete
+ * futures on this thread, so dependent stages must be asynchronous. Requests whose future is completed elsewhere,
+ * i.e. cancelled, or whose deadline has passed are cancelled on the Tango side; the latter fail with {@link TimeoutException}.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+final class TangoAsyncReplies {
+    private static final Logger logger = LoggerFactory.getLogger(TangoAsyncReplies.class);
+
+    private final Queue<PendingReply<?>> pending = new ConcurrentLinkedQueue<PendingReply<?>>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final ScheduledExecutorService poller;
+    private final long periodNanos;
+
+    /**
+     * @param period period of polling
+     * @param unit   unit of period
+     */
+    TangoAsyncReplies(long period, TimeUnit unit) {
+        this.periodNanos = unit.toNanos(period);
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("ez-tango-async-replies-%d").setDaemon(true).build());
+    }
+
+    /**
+     * @param request sent request
+     * @return future of the reply
+     */
+    <R> CompletableFuture<R> add(Request<R> request) {
+        return add(new PendingReply<R>(request, false, 0L));
+    }
+
+    /**
+     * @param request sent request
+     * @param timeout max time to wait for the reply since now
+     * @param unit    unit of timeout
+     * @return future of the reply, fails with {@link TimeoutException} once timeout elapses
+     */
+    <R> CompletableFuture<R> add(Request<R> request, long timeout, TimeUnit unit) {
+        return add(new PendingReply<R>(request, true, System.nanoTime() + unit.toNanos(timeout)));
+    }
+
+    private <R> CompletableFuture<R> add(PendingReply<R> reply) {
+        pending.add(reply);
+        if (polling.compareAndSet(false, true)) poller.execute(this::poll);
+        return reply.future;
+    }
+
+    /**
+     * @return number of requests waiting for reply
+     */
+    int size() {
+        return pending.size();
+    }
+
+    private void poll() {
+        for (Iterator<PendingReply<?>> iterator = pending.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().poll()) iterator.remove();
+        }
+        if (pending.isEmpty()) {
+            polling.set(false);
+            //request might have been added right after the check
+            if (pending.isEmpty() || !polling.compareAndSet(false, true)) return;
+        }
+        poller.schedule(this::poll, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Asynchronous request that has been sent to a device
+     */
+    interface Request<R> {
+        /**
+         * Must not block
+         *
+         * @return reply or null if it has not arrived yet
+         * @throws DevFailed if request has failed
+         */
+        R poll() throws DevFailed;
+
+        /**
+         * Drops the request, its reply is ignored
+         */
+        void cancel();
+    }
+
+    private static final class PendingReply<R> {
+        final Request<R> request;
+        final CompletableFuture<R> future = new CompletableFuture<R>();
+        final boolean timed;
+        /**
+         * See {@link System#nanoTime()}
+         */
+        final long deadline;
+
+        PendingReply(Request<R> request, boolean timed, long deadline) {
+            this.request = request;
+            this.timed = timed;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if request is done
+         */
+        boolean poll() {
+            if (future.isDone()) {
+                cancel();
+                return true;
+            }
+            if (timed && System.nanoTime() - deadline >= 0) {
+                cancel();
+                future.completeExceptionally(new TimeoutException());
+                return true;
+            }
+            try {
+                R reply = request.poll();
+                if (reply == null) return false;
+                future.complete(reply);
+            } catch (DevFailed | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+            return true;
+        }
+
+        private void cancel() {
+            try {
+                request.cancel();
+            } catch (RuntimeException e) {
+                logger.debug("TangoAsyncReplies#cancel has failed.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.tango.client.ez.proxy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks device interface for which TangoClientProcessor generates implementation at compile time. The processor is
+ * shipped with the "processor" classifier and has to be added to annotationProcessorPaths.
+ * Instances are created by {@link TangoProxies#newTangoClient(String, Class)}.
+ * <p/>
+ * Methods are mapped by name: getXxx()/isXxx() read attribute Xxx, setXxx(value) writes attribute Xxx,
+ * any other method executes command of the same name with at most one argument. Methods inherited from
+ * {@link TangoProxy} are delegated to the underlying proxy.
+ *
+ * @since 17.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface TangoClient {
+}
@@ -0,0 +1,23 @@
+package org.tango.client.ez.proxy;
+
+/**
+ * Naming contract between {@link TangoClientProcessor} and {@link TangoProxies#newTangoClient(TangoProxy, Class)}.
+ * Packed into both the runtime jar and the processor jar.
+ *
+ * @since 17.10.2026
+ */
+final class TangoClientNaming {
+    static final String CLIENT_SUFFIX = "_TangoClient";
+
+    private TangoClientNaming() {
+    }
+
+    /**
+     * @param binaryName binary name of the interface, i.e. org.vendor.Outer$Device
+     * @return binary name of the generated class, i.e. org.vendor.Outer_Device_TangoClient
+     */
+    static String getClientClassName(String binaryName) {
+        int dot = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, dot + 1) + binaryName.substring(dot + 1).replace('$', '_') + CLIENT_SUFFIX;
+    }
+}
@@ -0,0 +1,246 @@
+package org.tango.client.ez.proxy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates implementation of every interface annotated with {@link TangoClient}.
+ * <p/>
+ * Generated class calls {@link TangoProxy} directly, i.e. without {@link java.lang.reflect.Proxy} and its Object[]
+ * arguments. Checked exceptions not declared by the interface method are wrapped into
+ * {@link java.lang.reflect.UndeclaredThrowableException}, just like {@link java.lang.reflect.Proxy} does.
+ * <p/>
+ * Not a part of the runtime jar: it is shipped with the "processor" classifier and is meant for annotationProcessorPaths.
+ *
+ * @since 17.10.2026
+ */
+@SupportedAnnotationTypes("org.tango.client.ez.proxy.TangoClient")
+public class TangoClientProcessor extends AbstractProcessor {
+    //names only, so that TangORB classes are not loaded into compiler
+    private static final String PACKAGE = "org.tango.client.ez.proxy.";
+    private static final String TANGO_PROXY = PACKAGE + "TangoProxy";
+    private static final String READ_ATTRIBUTE_EXCEPTION = PACKAGE + "ReadAttributeException";
+    private static final String WRITE_ATTRIBUTE_EXCEPTION = PACKAGE + "WriteAttributeException";
+    private static final String EXECUTE_COMMAND_EXCEPTION = PACKAGE + "ExecuteCommandException";
+    private static final String NO_SUCH_ATTRIBUTE_EXCEPTION = PACKAGE + "NoSuchAttributeException";
+    private static final String NO_SUCH_COMMAND_EXCEPTION = PACKAGE + "NoSuchCommandException";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(TangoClient.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@TangoClient is applicable to interfaces only");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (!type.getTypeParameters().isEmpty()) {
+                error(element, "@TangoClient is not applicable to generic interfaces");
+                continue;
+            }
+            try {
+                generate(type);
+            } catch (IOException e) {
+                error(element, "Can not generate client: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        Elements elements = processingEnv.getElementUtils();
+        String clientName = TangoClientNaming.getClientClassName(elements.getBinaryName(type).toString());
+        int dot = clientName.lastIndexOf('.');
+        String simpleName = clientName.substring(dot + 1);
+
+        StringBuilder src = new StringBuilder();
+        if (dot > 0) src.append("package ").append(clientName, 0, dot).append(";\n\n");
+        src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings(\"unchecked\")\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(type.getQualifiedName()).append(" {\n")
+                .append("    private final ").append(TANGO_PROXY).append(" proxy;\n\n")
+                .append("    public ").append(simpleName).append("(").append(TANGO_PROXY).append(" proxy) {\n")
+                .append("        this.proxy = proxy;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String toString() {\n")
+                .append("        return \"").append(type.getQualifiedName()).append("@\" + proxy.getName();\n")
+                .append("    }\n");
+
+        Set<String> generated = new HashSet<String>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            //skips Object, default and static methods
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) continue;
+            ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), method);
+            String signature = signature(method, methodType);
+            if (!generated.add(signature)) continue;
+            src.append("\n    @Override\n    ").append(signature).append(" {\n");
+            if (!body(src, method, methodType)) return;
+            src.append("    }\n");
+        }
+        src.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(clientName, type).openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    private String signature(ExecutableElement method, ExecutableType methodType) {
+        StringBuilder result = new StringBuilder("public ");
+        List<? extends TypeParameterElement> typeParameters = method.getTypeParameters();
+        if (!typeParameters.isEmpty()) {
+            List<String> declarations = new ArrayList<String>();
+            for (TypeParameterElement typeParameter : typeParameters) {
+                StringBuilder declaration = new StringBuilder(typeParameter.getSimpleName());
+                List<String> bounds = new ArrayList<String>();
+                for (TypeMirror bound : typeParameter.getBounds())
+                    if (!bound.toString().equals(Object.class.getName())) bounds.add(bound.toString());
+                if (!bounds.isEmpty()) declaration.append(" extends ").append(String.join(" & ", bounds));
+                declarations.add(declaration.toString());
+            }
+            result.append('<').append(String.join(", ", declarations)).append("> ");
+        }
+        result.append(methodType.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (i > 0) result.append(", ");
+            String parameterType = parameterTypes.get(i).toString();
+            if (method.isVarArgs() && i == parameterTypes.size() - 1)
+                parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+            result.append(parameterType).append(" arg").append(i);
+        }
+        result.append(')');
+        List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+        if (!thrownTypes.isEmpty()) {
+            List<String> thrown = new ArrayList<String>();
+            for (TypeMirror thrownType : thrownTypes) thrown.add(thrownType.toString());
+            result.append(" throws ").append(String.join(", ", thrown));
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return false if method can not be mapped, error is reported then
+     */
+    private boolean body(StringBuilder src, ExecutableElement method, ExecutableType methodType) {
+        String name = method.getSimpleName().toString();
+        int parameterCount = methodType.getParameterTypes().size();
+        TypeMirror returnType = methodType.getReturnType();
+        boolean isVoid = returnType.getKind() == TypeKind.VOID;
+
+        if (((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(TANGO_PROXY)) {
+            List<String> args = new ArrayList<String>();
+            for (int i = 0; i < parameterCount; i++) args.add("arg" + i);
+            src.append("        ").append(isVoid ? "" : "return ")
+                    .append("proxy.").append(name).append('(').append(String.join(", ", args)).append(");\n");
+            return true;
+        }
+
+        if (!method.getTypeParameters().isEmpty()) {
+            error(method, "generic methods are not supported by @TangoClient");
+            return false;
+        }
+
+        String call;
+        List<String> exceptions = new ArrayList<String>();
+        if (name.startsWith("get") && name.length() > 3 && parameterCount == 0 && !isVoid) {
+            call = "return " + read(returnType, name.substring(3)) + ";";
+            exceptions.add(READ_ATTRIBUTE_EXCEPTION);
+            exceptions.add(NO_SUCH_ATTRIBUTE_EXCEPTION);
+        } else if (name.startsWith("is") && name.length() > 2 && parameterCount == 0 && !isVoid) {
+            call = "return " + read(returnType, name.substring(2)) + ";";
+            exceptions.add(READ_ATTRIBUTE_EXCEPTION);
+            exceptions.add(NO_SUCH_ATTRIBUTE_EXCEPTION);
+        } else if (name.startsWith("set") && name.length() > 3 && parameterCount == 1 && isVoid) {
+            call = "proxy.writeAttribute(\"" + name.substring(3) + "\", arg0);";
+            exceptions.add(WRITE_ATTRIBUTE_EXCEPTION);
+            exceptions.add(NO_SUCH_ATTRIBUTE_EXCEPTION);
+        } else if (parameterCount <= 1) {
+            call = (isVoid ? "" : "return (" + boxed(returnType) + ") ")
+                    + "proxy.executeCommand(\"" + name + "\"" + (parameterCount == 1 ? ", arg0" : "") + ");";
+            exceptions.add(EXECUTE_COMMAND_EXCEPTION);
+            exceptions.add(NO_SUCH_COMMAND_EXCEPTION);
+        } else {
+            error(method, "command may have at most one argument");
+            return false;
+        }
+
+        List<String> undeclared = new ArrayList<String>();
+        for (String exception : exceptions)
+            if (!isDeclared(exception, methodType.getThrownTypes())) undeclared.add(exception);
+
+        if (undeclared.isEmpty()) {
+            src.append("        ").append(call).append('\n');
+        } else {
+            src.append("        try {\n")
+                    .append("            ").append(call).append('\n')
+                    .append("        } catch (").append(String.join(" | ", undeclared)).append(" e) {\n")
+                    .append("            throw new java.lang.reflect.UndeclaredThrowableException(e);\n")
+                    .append("        }\n");
+        }
+        return true;
+    }
+
+    /**
+     * @return attribute read expression, double, long, int and boolean are read without boxing
+     */
+    private String read(TypeMirror returnType, String attrName) {
+        switch (returnType.getKind()) {
+            case DOUBLE:
+                return "proxy.readDouble(\"" + attrName + "\")";
+            case LONG:
+                return "proxy.readLong(\"" + attrName + "\")";
+            case INT:
+                return "proxy.readInt(\"" + attrName + "\")";
+            case BOOLEAN:
+                return "proxy.readBoolean(\"" + attrName + "\")";
+            default:
+                return "(" + boxed(returnType) + ") proxy.readAttribute(\"" + attrName + "\")";
+        }
+    }
+
+    private boolean isDeclared(String exception, List<? extends TypeMirror> thrownTypes) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror exceptionType = processingEnv.getElementUtils().getTypeElement(exception).asType();
+        for (TypeMirror thrownType : thrownTypes)
+            if (types.isSubtype(exceptionType, thrownType)) return true;
+        return false;
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return type.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -41,12 +41,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tango.client.ez.data.TangoDataWrapper;
 import org.tango.client.ez.data.format.TangoDataFormat;
+import org.tango.client.ez.data.format.UnknownTangoDataFormat;
+import org.tango.client.ez.data.type.TangoDataType;
+import org.tango.client.ez.data.type.UnknownTangoDataType;
+import org.tango.client.ez.data.type.ValueExtractionException;
 import org.tango.client.ez.util.TangoUtils;
 
 import java.lang.ref.WeakReference;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * This class is a common implementation for all ITangoXXXListener.
@@ -62,43 +68,114 @@ public class TangoEventDispatcher<T> implements ITangoChangeListener, ITangoPeri
         ITangoArchiveListener, ITangoUserListener {
     private final Logger logger = LoggerFactory.getLogger(TangoEventDispatcher.class);
     private final Queue<TangoEventListenerWeakReference<T>> listeners = new ConcurrentLinkedQueue<>();
+    private final Queue<WeakReference<LatestEventSlot<T>>> slots = new ConcurrentLinkedQueue<>();
+    /**
+     * May be null, in this case enum attributes can not be extracted
+     */
+    private final TangoAttributeInfoWrapper attributeInfo;
+    private volatile Extraction<T> extraction;
+    /**
+     * Receives raw value or error of every event, may be null
+     */
+    private volatile Consumer<Object> rawSink;
+
+    public TangoEventDispatcher() {
+        this(null);
+    }
+
+    /**
+     * @param attributeInfo info of the attribute this dispatcher is subscribed to, may be null
+     */
+    public TangoEventDispatcher(TangoAttributeInfoWrapper attributeInfo) {
+        this.attributeInfo = attributeInfo;
+    }
 
     public void addListener(TangoEventListener<T> listener) {
         boolean isAdded = listeners.add(new TangoEventListenerWeakReference<>(listener));
         logger.debug("Listener {} has been added: {}", listener, isAdded);
     }
 
+    /**
+     * Adds listener that is notified by its own executor, so that it does not block Tango event thread and other listeners.
+     *
+     * @param listener listener
+     * @param executor delivers events to the listener
+     * @param capacity max number of pending events
+     * @param policy   what to do when there are capacity events pending
+     */
+    public void addListener(TangoEventListener<T> listener, Executor executor, int capacity, EventOverflowPolicy policy) {
+        boolean isAdded = listeners.add(new TangoEventListenerWeakReference<>(listener, executor, capacity, policy));
+        logger.debug("Asynchronous listener {} has been added: {}", listener, isAdded);
+    }
+
+    /**
+     * Asynchronous listener's pending events are dropped and its blocked offer, if any, is released
+     */
     public void removeListener(TangoEventListener<T> listener) {
-        boolean isRemoved = listeners.remove(new TangoEventListenerWeakReference<>(listener));
+        boolean isRemoved = false;
+        for (Iterator<TangoEventListenerWeakReference<T>> iterator = listeners.iterator(); iterator.hasNext(); ) {
+            TangoEventListenerWeakReference<T> weakRef = iterator.next();
+            if (weakRef.equals(listener)) {
+                iterator.remove();
+                weakRef.close();
+                isRemoved = true;
+            }
+        }
         logger.debug("Listener {} has been removed: {}", listener, isRemoved);
     }
 
+    /**
+     * Slot is kept in a weak reference as well as listeners.
+     *
+     * @param slot receives the latest raw value of every event
+     */
+    public void addSlot(LatestEventSlot<T> slot) {
+        boolean isAdded = slots.add(new WeakReference<>(slot));
+        logger.debug("Slot {} has been added: {}", slot, isAdded);
+    }
+
+    public void removeSlot(LatestEventSlot<T> slot) {
+        for (Iterator<WeakReference<LatestEventSlot<T>>> iterator = slots.iterator(); iterator.hasNext(); ) {
+            LatestEventSlot<T> next = iterator.next().get();
+            if (next == null || next == slot) iterator.remove();
+        }
+        logger.debug("Slot {} has been removed", slot);
+    }
+
+    /**
+     * @param rawSink receives either {@link DeviceAttribute} or {@link Exception} of every event before it is dispatched to listeners
+     */
+    void setRawSink(Consumer<Object> rawSink) {
+        this.rawSink = rawSink;
+    }
+
     @Override
     public void change(TangoChangeEvent e) {
         try {
             dispatch(e.getValue());
         } catch (DevFailed devFailed) {
-            handleError(TangoUtils.convertDevFailedToException(devFailed));
+            dispatchError(TangoUtils.convertDevFailedToException(devFailed));
         } catch (Exception ex) {
-            handleError(ex);
+            dispatchError(ex);
         }
     }
 
-    private void dispatch(DeviceAttribute deviceAttribute) {
+    void dispatch(DeviceAttribute deviceAttribute) {
+        offerToSlots(deviceAttribute);
+        //slots extract value on their own, so there is nothing else to do
+        if (listeners.isEmpty()) return;
         try {
-            if (deviceAttribute.hasFailed()) {
-                throw new DevFailed(deviceAttribute.getErrStack());
-            }
-            TangoDataWrapper data = TangoDataWrapper.create(deviceAttribute, null);//TODO extract TangoAttributeInfoWrapper.create
-            TangoDataFormat<T> format = TangoDataFormat.createForAttrDataFormat(deviceAttribute.getDataFormat());
-            EventData<T> result = new EventData<>(format.extract(data), deviceAttribute.getTimeValMillisSec(), deviceAttribute);
+            EventData<T> result = extract(deviceAttribute);
             for (Iterator<TangoEventListenerWeakReference<T>> iterator = listeners.iterator(); iterator.hasNext(); ) {
-                WeakReference<TangoEventListener<T>> weakRef = iterator.next();
+                TangoEventListenerWeakReference<T> weakRef = iterator.next();
                 TangoEventListener<T> listener = weakRef.get();
-                if (listener != null) {
-                    listener.onEvent(result);
-                } else {
+                if (listener == null) {
                     iterator.remove();
+                    weakRef.close();
+                } else if (weakRef.queue != null) {
+                    weakRef.queue.offerEvent(result);
+                } else {
+                    listener.onEvent(result);
                 }
             }
         } catch (Exception throwable) {
@@ -106,14 +183,58 @@ public class TangoEventDispatcher<T> implements ITangoChangeListener, ITangoPeri
         }
     }
 
+    /**
+     * Extracts event value using extraction pipeline resolved for the previous event, as long as the data type and format
+     * of the event value stay the same.
+     *
+     * @param deviceAttribute event value
+     * @return extracted event data
+     * @throws DevFailed                if event carries an error
+     * @throws ValueExtractionException
+     */
+    EventData<T> extract(DeviceAttribute deviceAttribute) throws DevFailed, ValueExtractionException {
+        if (deviceAttribute.hasFailed()) {
+            throw new DevFailed(deviceAttribute.getErrStack());
+        }
+        int dataType = deviceAttribute.getType();
+        int dataFormat = deviceAttribute.getDataFormat().value();
+        Extraction<T> extraction = this.extraction;
+        if (extraction == null || extraction.dataType != dataType || extraction.dataFormat != dataFormat) {
+            this.extraction = extraction = new Extraction<>(dataType, dataFormat);
+        }
+        TangoDataWrapper data = TangoDataWrapper.create(deviceAttribute, attributeInfo);
+        return new EventData<>(extraction.extract(data), deviceAttribute.getTimeValMillisSec(), deviceAttribute);
+    }
+
+    private void offerToSlots(Object signal) {
+        Consumer<Object> rawSink = this.rawSink;
+        if (rawSink != null) rawSink.accept(signal);
+        for (Iterator<WeakReference<LatestEventSlot<T>>> iterator = slots.iterator(); iterator.hasNext(); ) {
+            LatestEventSlot<T> slot = iterator.next().get();
+            if (slot != null) {
+                slot.offer(signal);
+            } else {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void dispatchError(Exception error) {
+        offerToSlots(error);
+        handleError(error);
+    }
+
     private void handleError(Exception error) {
         for (Iterator<TangoEventListenerWeakReference<T>> iterator = listeners.iterator(); iterator.hasNext(); ) {
-            WeakReference<TangoEventListener<T>> weakRef = iterator.next();
+            TangoEventListenerWeakReference<T> weakRef = iterator.next();
             TangoEventListener<T> listener = weakRef.get();
-            if (listener != null) {
-                listener.onError(error);
-            } else {
+            if (listener == null) {
                 iterator.remove();
+                weakRef.close();
+            } else if (weakRef.queue != null) {
+                weakRef.queue.offerError(error);
+            } else {
+                listener.onError(error);
             }
         }
     }
@@ -123,9 +244,9 @@ public class TangoEventDispatcher<T> implements ITangoChangeListener, ITangoPeri
         try {
             dispatch(e.getValue());
         } catch (DevFailed devFailed) {
-            handleError(TangoUtils.convertDevFailedToException(devFailed));
+            dispatchError(TangoUtils.convertDevFailedToException(devFailed));
         } catch (Exception ex) {
-            handleError(ex);
+            dispatchError(ex);
         }
     }
 
@@ -134,9 +255,9 @@ public class TangoEventDispatcher<T> implements ITangoChangeListener, ITangoPeri
         try {
             dispatch(e.getValue());
         } catch (DevFailed devFailed) {
-            handleError(TangoUtils.convertDevFailedToException(devFailed));
+            dispatchError(TangoUtils.convertDevFailedToException(devFailed));
         } catch (Exception ex) {
-            handleError(ex);
+            dispatchError(ex);
         }
     }
 
@@ -145,18 +266,61 @@ public class TangoEventDispatcher<T> implements ITangoChangeListener, ITangoPeri
         try {
             dispatch(e.getValue());
         } catch (DevFailed devFailed) {
-            handleError(TangoUtils.convertDevFailedToException(devFailed));
+            dispatchError(TangoUtils.convertDevFailedToException(devFailed));
         } catch (Exception ex) {
-            handleError(ex);
+            dispatchError(ex);
+        }
+    }
+
+    /**
+     * Format and type resolved for particular data type and format of event values
+     */
+    private static final class Extraction<T> {
+        private final int dataType;
+        private final int dataFormat;
+        private final TangoDataFormat<T> format;
+        /**
+         * null if format does not support types, i.e. unknown format
+         */
+        private final TangoDataType<T> type;
+
+        Extraction(int dataType, int dataFormat) throws ValueExtractionException {
+            this.dataType = dataType;
+            this.dataFormat = dataFormat;
+            this.format = TangoDataFormat.createForAlias(dataFormat);
+            try {
+                this.type = format instanceof UnknownTangoDataFormat ? null : format.getDataType(dataType);
+            } catch (UnknownTangoDataType e) {
+                throw new ValueExtractionException(e);
+            }
+        }
+
+        T extract(TangoDataWrapper data) throws ValueExtractionException {
+            return type != null ? type.extract(data) : format.extract(data);
         }
     }
 
     private static class TangoEventListenerWeakReference<T> extends WeakReference<TangoEventListener<T>> {
         private final TangoEventListener<T> referent;
+        /**
+         * null for listeners that are notified synchronously
+         */
+        private final TangoEventListenerQueue<T> queue;
 
         public TangoEventListenerWeakReference(TangoEventListener<T> referent) {
             super(referent);
             this.referent = referent;
+            this.queue = null;
+        }
+
+        public TangoEventListenerWeakReference(TangoEventListener<T> referent, Executor executor, int capacity, EventOverflowPolicy policy) {
+            super(referent);
+            this.referent = referent;
+            this.queue = new TangoEventListenerQueue<>(this, executor, capacity, policy);
+        }
+
+        void close() {
+            if (queue != null) queue.close();
         }
 
         @Override
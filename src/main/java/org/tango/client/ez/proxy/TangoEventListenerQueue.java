@@ -0,0 +1,159 @@
+package org.tango.client.ez.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of events pending for a single listener.
+ * <p/>
+ * Events are delivered by the listener's executor one at a time in the order they were offered,
+ * so a slow listener does not stall {@link TangoEventDispatcher} nor other listeners.
+ * <p/>
+ * Offers blocked by {@link EventOverflowPolicy#BLOCK} are released once the queue is closed, i.e. its listener is removed,
+ * or once the executor rejects delivery, in which case pending events are dropped.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+final class TangoEventListenerQueue<T> {
+    private static final Logger logger = LoggerFactory.getLogger(TangoEventListenerQueue.class);
+
+    private final WeakReference<TangoEventListener<T>> listener;
+    private final Executor executor;
+    private final int capacity;
+    private final EventOverflowPolicy policy;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Queue<Object> pending = new ArrayDeque<Object>();
+    private boolean scheduled;
+    private boolean closed;
+
+    TangoEventListenerQueue(WeakReference<TangoEventListener<T>> listener, Executor executor, int capacity, EventOverflowPolicy policy) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.listener = listener;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    void offerEvent(EventData<T> data) {
+        offer(data);
+    }
+
+    void offerError(Exception cause) {
+        offer(cause);
+    }
+
+    /**
+     * @param signal either EventData or Exception
+     */
+    private void offer(Object signal) {
+        boolean schedule = false;
+        lock.lock();
+        try {
+            if (closed) return;
+            if (policy == EventOverflowPolicy.CONFLATE) {
+                pending.clear();
+            } else if (pending.size() >= capacity) {
+                switch (policy) {
+                    case DROP_OLDEST:
+                        pending.poll();
+                        break;
+                    case DROP_NEWEST:
+                        return;
+                    case BLOCK:
+                        while (pending.size() >= capacity && !closed) {
+                            notFull.await();
+                        }
+                        if (closed) return;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown EventOverflowPolicy:" + policy);
+                }
+            }
+            pending.add(signal);
+            if (!scheduled) {
+                scheduled = true;
+                schedule = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            lock.unlock();
+        }
+
+        if (schedule) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Listener {} executor has rejected delivery", listener.get(), e);
+                lock.lock();
+                try {
+                    //nobody is going to drain them, so release blocked offers
+                    pending.clear();
+                    scheduled = false;
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops pending events and releases blocked offers, subsequent offers are ignored
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pending.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        for (; ; ) {
+            Object signal;
+            lock.lock();
+            try {
+                signal = pending.poll();
+                if (signal == null) {
+                    scheduled = false;
+                    return;
+                }
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+            deliver(signal);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Object signal) {
+        TangoEventListener<T> listener = this.listener.get();
+        if (listener == null) return;
+        try {
+            if (signal instanceof EventData)
+                listener.onEvent((EventData<T>) signal);
+            else
+                listener.onError((Exception) signal);
+        } catch (RuntimeException e) {
+            logger.warn("Listener {} has failed", listener, e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.tango.client.ez.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} view of an attribute event.
+ * <p/>
+ * Tango event subscription is performed when the first subscriber arrives and is dropped when the last one cancels.
+ * Each subscriber has its own buffer of bufferSize events; events are delivered only as requested,
+ * when buffer is full the oldest event is discarded.
+ * <p/>
+ * Errors carried by events, i.e. API_EventTimeout while device is not reachable or failure to read the attribute,
+ * are transient: Tango keeps the subscription and resumes events once the cause is gone, so such errors are logged
+ * and skipped and the stream goes on. onError is reserved for fatal failures that end the stream, i.e. the event
+ * can not be subscribed or subscriber has requested non-positive number of events.
+ * <p/>
+ * Instances are created by {@link TangoProxy#newEventPublisher(String, TangoEvent, int)}
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+public final class TangoEventPublisher<T> implements Flow.Publisher<EventData<T>> {
+    private static final Logger logger = LoggerFactory.getLogger(TangoEventPublisher.class);
+
+    private final DeviceProxyWrapper proxy;
+    private final String attrName;
+    private final TangoEvent event;
+    private final int bufferSize;
+    /**
+     * Strong references to active subscriptions, as event listeners are cached in weak references
+     */
+    private final Set<EventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    TangoEventPublisher(DeviceProxyWrapper proxy, String attrName, TangoEvent event, int bufferSize) {
+        if (bufferSize < 1) throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        this.proxy = proxy;
+        this.attrName = attrName;
+        this.event = event;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super EventData<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        logger.trace("TangoEventPublisher#subscribe {}/{}.{}={}", proxy.getName(), attrName, event, subscriber);
+        EventSubscription subscription = new EventSubscription(subscriber);
+        //listener is kept in a weak reference, so the strong one must exist before it is added
+        subscriptions.add(subscription);
+        try {
+            //events that arrive before start are buffered
+            proxy.acquireEventSubscription(attrName, event, subscription);
+        } catch (TangoProxyException | NoSuchAttributeException e) {
+            logger.debug("TangoEventPublisher#subscribe has failed. {}/{}.{}", proxy.getName(), attrName, event);
+            subscriptions.remove(subscription);
+            subscription.cancelled = true;
+            subscriber.onSubscribe(subscription);
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private final class EventSubscription implements Flow.Subscription, TangoEventListener<T> {
+        private final Flow.Subscriber<? super EventData<T>> subscriber;
+        private final Queue<EventData<T>> buffer = new ArrayDeque<EventData<T>>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        EventSubscription(Flow.Subscriber<? super EventData<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void start() {
+            started = true;
+            drain();
+        }
+
+        @Override
+        public void onEvent(EventData<T> data) {
+            if (cancelled) return;
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) buffer.poll();
+                buffer.add(data);
+            }
+            drain();
+        }
+
+        /**
+         * Event errors do not end the stream, see {@link TangoEventPublisher}
+         */
+        @Override
+        public void onError(Exception cause) {
+            if (cancelled) return;
+            logger.debug("TangoEventPublisher#onError skips event error. {}/{}.{}", proxy.getName(), attrName, event, cause);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (error == null) error = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                long current;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) break;
+                } while (!requested.compareAndSet(current, current + n < 0 ? Long.MAX_VALUE : current + n));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            release();
+        }
+
+        private void release() {
+            if (!released.compareAndSet(false, true)) return;
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            proxy.removeEventListener(attrName, event, this);
+            subscriptions.remove(this);
+            proxy.releaseEventSubscription(attrName, event);
+        }
+
+        /**
+         * Serializes all signals to subscriber, whatever thread has triggered it
+         */
+        private void drain() {
+            if (!started || wip.getAndIncrement() != 0) return;
+            int missed = 1;
+            for (; ; ) {
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r && !cancelled && error == null) {
+                    EventData<T> next;
+                    synchronized (buffer) {
+                        next = buffer.poll();
+                    }
+                    if (next == null) break;
+                    subscriber.onNext(next);
+                    emitted++;
+                }
+                if (cancelled) return;
+                Throwable error = this.error;
+                if (error != null) {
+                    cancelled = true;
+                    release();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (emitted != 0 && r != Long.MAX_VALUE) requested.addAndGet(-emitted);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) return;
+            }
+        }
+    }
+}
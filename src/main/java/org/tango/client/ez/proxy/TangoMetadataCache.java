@@ -0,0 +1,231 @@
+package org.tango.client.ez.proxy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fr.esrf.TangoApi.AttributeInfoEx;
+import fr.esrf.TangoApi.CommandInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent storage of attribute and command infos, one file per device.
+ * <p/>
+ * {@link DeviceProxyWrapper} loads infos from here at construction so that no remote metadata query is needed
+ * before the first read. Loaded attribute infos are validated lazily against the first read value and refreshed on mismatch.
+ * Loaded restored command infos are validated against the first argout. Files are written in background once infos
+ * have been loaded, prefetched or refreshed, writes requested within store delay are coalesced into a single one.
+ * <p/>
+ * Files are read back only with the classes of attribute and command infos, any other class in the stream fails the load.
+ * <p/>
+ * Files are keyed by device name only, so use dedicated directory per Tango host.
+ *
+ * @since 17.10.2026
+ */
+public final class TangoMetadataCache {
+    private static final Logger logger = LoggerFactory.getLogger(TangoMetadataCache.class);
+    private static final int VERSION = 1;
+    private static final String EXTENSION = ".metadata";
+    /**
+     * Default store delay in milliseconds
+     */
+    public static final long DEFAULT_STORE_DELAY = 1000L;
+    private static final int MAX_DEPTH = 20;
+    private static final int MAX_ARRAY_LENGTH = 1 << 16;
+    /**
+     * Classes of attribute and command infos and of all their fields
+     */
+    private static final Set<Class<?>> ALLOWED_CLASSES = collectFieldClasses(AttributeInfoEx.class, CommandInfo.class);
+
+    private final Path directory;
+    private final long storeDelayNanos;
+    /**
+     * Devices whose files are about to be written
+     */
+    private final ConcurrentMap<String, PendingStore> pending = new ConcurrentHashMap<String, PendingStore>();
+    private final ScheduledThreadPoolExecutor writer;
+
+    /**
+     * @param directory where cache files are stored, is created if does not exist
+     */
+    public TangoMetadataCache(Path directory) {
+        this(directory, DEFAULT_STORE_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param directory  where cache files are stored, is created if does not exist
+     * @param storeDelay delay between a change of metadata and write of the file
+     * @param unit       unit of storeDelay
+     */
+    public TangoMetadataCache(Path directory, long storeDelay, TimeUnit unit) {
+        this.directory = directory;
+        this.storeDelayNanos = unit.toNanos(storeDelay);
+        this.writer = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("ez-tango-metadata-cache-%d").setDaemon(true).build());
+        this.writer.setKeepAliveTime(60L, TimeUnit.SECONDS);
+        this.writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param device device name, i.e. sys/tg_test/1
+     * @return stored metadata or null if there is none or it can not be read
+     */
+    Metadata load(String device) {
+        Path file = getFile(device);
+        if (!Files.exists(file)) return null;
+        try (ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            in.setObjectInputFilter(TangoMetadataCache::checkClass);
+            if (in.readInt() != VERSION) {
+                logger.debug("TangoMetadataCache#load skips outdated file {}", file);
+                return null;
+            }
+            String storedDevice = in.readUTF();
+            if (!device.equalsIgnoreCase(storedDevice)) {
+                logger.debug("TangoMetadataCache#load skips file {} of another device {}", file, storedDevice);
+                return null;
+            }
+            AttributeInfoEx[] attributes = (AttributeInfoEx[]) in.readObject();
+            CommandInfo[] commands = (CommandInfo[]) in.readObject();
+            return new Metadata(attributes, commands);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("TangoMetadataCache#load has failed. {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces stored metadata of the device after store delay. Collections are read when the file is written,
+     * so live views may be passed, i.e. {@link java.util.Map#values()}.
+     *
+     * @param device     device name
+     * @param attributes attribute infos
+     * @param commands   command infos
+     */
+    void storeLater(String device, Collection<TangoAttributeInfoWrapper> attributes, Collection<TangoCommandInfoWrapper> commands) {
+        if (pending.put(device, new PendingStore(attributes, commands)) == null)
+            writer.schedule(() -> storePending(device), storeDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Writes all pending files now, i.e. before exit
+     */
+    public void flush() {
+        for (String device : pending.keySet()) storePending(device);
+    }
+
+    private void storePending(String device) {
+        PendingStore store = pending.remove(device);
+        if (store != null) store(device, store.attributes, store.commands);
+    }
+
+    /**
+     * Replaces stored metadata of the device
+     *
+     * @param device     device name
+     * @param attributes attribute infos
+     * @param commands   command infos
+     */
+    void store(String device, Collection<TangoAttributeInfoWrapper> attributes, Collection<TangoCommandInfoWrapper> commands) {
+        AttributeInfoEx[] attributeInfos = new AttributeInfoEx[attributes.size()];
+        int i = 0;
+        for (TangoAttributeInfoWrapper attribute : attributes) attributeInfos[i++] = attribute.toAttributeInfoEx();
+        CommandInfo[] commandInfos = new CommandInfo[commands.size()];
+        i = 0;
+        for (TangoCommandInfoWrapper command : commands) commandInfos[i++] = command.toCommandInfo();
+
+        Path file = getFile(device);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))) {
+                out.writeInt(VERSION);
+                out.writeUTF(device);
+                out.writeObject(attributeInfos);
+                out.writeObject(commandInfos);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("TangoMetadataCache#store has failed. {}", file, e);
+        }
+    }
+
+    /**
+     * Removes stored metadata of the device
+     *
+     * @param device device name
+     */
+    public void invalidate(String device) {
+        try {
+            Files.deleteIfExists(getFile(device));
+        } catch (IOException e) {
+            logger.warn("TangoMetadataCache#invalidate has failed. {}", device, e);
+        }
+    }
+
+    private static ObjectInputFilter.Status checkClass(ObjectInputFilter.FilterInfo info) {
+        if (info.depth() > MAX_DEPTH || info.arrayLength() > MAX_ARRAY_LENGTH) return ObjectInputFilter.Status.REJECTED;
+        Class<?> clazz = info.serialClass();
+        if (clazz == null) return ObjectInputFilter.Status.UNDECIDED;
+        while (clazz.isArray()) clazz = clazz.getComponentType();
+        return clazz.isPrimitive() || ALLOWED_CLASSES.contains(clazz) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+    }
+
+    private static Set<Class<?>> collectFieldClasses(Class<?>... roots) {
+        Set<Class<?>> result = new HashSet<Class<?>>();
+        for (Class<?> root : roots) collectFieldClasses(root, result);
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static void collectFieldClasses(Class<?> clazz, Set<Class<?>> result) {
+        while (clazz.isArray()) clazz = clazz.getComponentType();
+        for (; clazz != null && clazz != Object.class && !clazz.isPrimitive(); clazz = clazz.getSuperclass()) {
+            if (!result.add(clazz)) return;
+            for (Field field : clazz.getDeclaredFields()) {
+                if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0)
+                    collectFieldClasses(field.getType(), result);
+            }
+        }
+    }
+
+    private Path getFile(String device) {
+        return directory.resolve(device.toLowerCase().replaceAll("[^a-z0-9_.-]", "_") + EXTENSION);
+    }
+
+    private static final class PendingStore {
+        final Collection<TangoAttributeInfoWrapper> attributes;
+        final Collection<TangoCommandInfoWrapper> commands;
+
+        PendingStore(Collection<TangoAttributeInfoWrapper> attributes, Collection<TangoCommandInfoWrapper> commands) {
+            this.attributes = attributes;
+            this.commands = commands;
+        }
+    }
+
+    static final class Metadata {
+        final AttributeInfoEx[] attributes;
+        final CommandInfo[] commands;
+
+        private Metadata(AttributeInfoEx[] attributes, CommandInfo[] commands) {
+            this.attributes = attributes;
+            this.commands = commands;
+        }
+    }
+}
@@ -39,12 +39,24 @@ import fr.esrf.TangoApi.DeviceProxy;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 /**
  * @author Igor Khokhriakov <igor.khokhriakov@hzg.de>
  * @since 29.08.13
  */
 public class TangoProxies {
+    /**
+     * System property, for how many milliseconds a shared proxy is kept after its last release, see {@link #releaseDeviceProxyWrapper(TangoProxy)}.
+     * Default is 60000
+     */
+    public static final String TANGO_PROXY_REGISTRY_IDLE_TTL = "tango.proxy.registry.idle.ttl";
+    private static final long DEFAULT_REGISTRY_IDLE_TTL = 60000L;
+    private static final TangoProxyRegistry registry = new TangoProxyRegistry(
+            Long.getLong(TANGO_PROXY_REGISTRY_IDLE_TTL, DEFAULT_REGISTRY_IDLE_TTL), DeviceProxyWrapper::new);
+
     private TangoProxies() {
     }
 
@@ -56,37 +68,175 @@ public class TangoProxies {
         return new DeviceProxyWrapper(proxy);
     }
 
+    /**
+     * @param url              path to tango server
+     * @param prefetchMetadata if true attribute and command infos are loaded eagerly, see {@link TangoProxy#prefetchMetadata()}
+     * @return a new TangoProxy instance
+     * @throws TangoProxyException
+     */
+    public static TangoProxy newDeviceProxyWrapper(String url, boolean prefetchMetadata) throws TangoProxyException {
+        TangoProxy result = new DeviceProxyWrapper(url);
+        if (prefetchMetadata) result.prefetchMetadata();
+        return result;
+    }
+
+    /**
+     * @param url           path to tango server
+     * @param metadataCache persistent cache of attribute and command infos
+     * @return a new TangoProxy instance
+     * @throws TangoProxyException
+     */
+    public static TangoProxy newDeviceProxyWrapper(String url, TangoMetadataCache metadataCache) throws TangoProxyException {
+        return new DeviceProxyWrapper(url, metadataCache);
+    }
+
+    /**
+     * @param url           path to tango server
+     * @param asyncExecutor executor that converts replies of asynchronous calls, e.g. {@link TangoProxy#readAttributeAsync(String)}
+     * @return a new TangoProxy instance
+     * @throws TangoProxyException
+     */
+    public static TangoProxy newDeviceProxyWrapper(String url, Executor asyncExecutor) throws TangoProxyException {
+        return new DeviceProxyWrapper(url, asyncExecutor);
+    }
+
+    /**
+     * Returns the proxy shared by all callers of this method for the same device, so that metadata and
+     * event subscriptions of the device are not duplicated across independent parts of an application.
+     * <p/>
+     * Every call must be paired with {@link #releaseDeviceProxyWrapper(TangoProxy)}. Shared proxy must not be
+     * used after it has been released.
+     *
+     * @param url path to tango server, i.e. sys/tg_test/1 or tango://host:10000/sys/tg_test/1
+     * @return shared TangoProxy instance
+     * @throws TangoProxyException
+     */
+    public static TangoProxy getOrCreateDeviceProxyWrapper(String url) throws TangoProxyException {
+        return registry.acquire(url);
+    }
+
+    /**
+     * Releases a proxy obtained from {@link #getOrCreateDeviceProxyWrapper(String)}. When no references are left,
+     * the proxy is evicted after {@link #TANGO_PROXY_REGISTRY_IDLE_TTL} and its event subscriptions are dropped.
+     *
+     * @param proxy shared proxy
+     * @throws IllegalArgumentException if proxy is not shared or has been released more times than acquired
+     */
+    public static void releaseDeviceProxyWrapper(TangoProxy proxy) {
+        registry.release(proxy);
+    }
+
     public static <T> T newTangoProxy(final String device, Class<T> clazz) throws TangoProxyException {
         //TODO check device and interface compatibility, i.e. clazz is the class of the device
 
+        final TangoProxy tangoProxy = new DeviceProxyWrapper(device);
         InvocationHandler handler = new InvocationHandler() {
-            final TangoProxy tangoProxy = new DeviceProxyWrapper(device);
+            /**
+             * Invokers are resolved on the first call of each method, so that a method name is parsed and
+             * looked up among device commands only once
+             */
+            final ConcurrentMap<Method, MethodInvoker> invokers = new ConcurrentHashMap<Method, MethodInvoker>();
 
             @Override
             public Object invoke(Object proxy, Method method, Object[] args) throws TangoProxyException {
-                String methodName = method.getName();
+                MethodInvoker invoker = invokers.get(method);
+                if (invoker == null) {
+                    invoker = resolveInvoker(tangoProxy, method);
+                    MethodInvoker existing = invokers.putIfAbsent(method, invoker);
+                    if (existing != null) invoker = existing;
+                }
 
                 try {
-                    if (tangoProxy.hasCommand(methodName))
-                        return tangoProxy.executeCommand(methodName, args != null ? args[0] : null);
-                    else if (methodName.startsWith("get"))
-                        return tangoProxy.readAttribute(methodName.substring(3));
-                    else if (methodName.startsWith("is"))
-                        return tangoProxy.readAttribute(methodName.substring(2));
-                    else if (methodName.startsWith("set"))
-                        tangoProxy.writeAttribute(methodName.substring(3), args != null ? args[0] : null);
-                    else
-                        throw new TangoProxyException(tangoProxy.getName(), "Has neither command nor attribute " + methodName);
+                    return invoker.invoke(proxy, args);
                 } catch (NoSuchCommandException e) {
                     throw new AssertionError(e);
                 } catch (NoSuchAttributeException e) {
                     throw new AssertionError(e);
                 }
-
-                return null;
             }
         };
 
         return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class[]{clazz}, handler);
     }
+
+    /**
+     * Creates instance of the class generated at compile time for the interface annotated with {@link TangoClient}.
+     * Unlike {@link #newTangoProxy(String, Class)} calls are compiled straight into {@link TangoProxy} calls, so there is
+     * neither reflection nor Object[] allocation per call.
+     *
+     * @param device path to tango server
+     * @param clazz  device interface annotated with {@link TangoClient}
+     * @return a new client
+     * @throws TangoProxyException
+     * @throws IllegalArgumentException if there is no generated class for clazz
+     */
+    public static <T> T newTangoClient(String device, Class<T> clazz) throws TangoProxyException {
+        return newTangoClient(new DeviceProxyWrapper(device), clazz);
+    }
+
+    /**
+     * @param proxy target device
+     * @param clazz device interface annotated with {@link TangoClient}
+     * @return a new client
+     * @throws IllegalArgumentException if there is no generated class for clazz
+     * @see #newTangoClient(String, Class)
+     */
+    public static <T> T newTangoClient(TangoProxy proxy, Class<T> clazz) {
+        String clientName = TangoClientNaming.getClientClassName(clazz.getName());
+        try {
+            Class<? extends T> client = Class.forName(clientName, true, clazz.getClassLoader()).asSubclass(clazz);
+            return client.getConstructor(TangoProxy.class).newInstance(proxy);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("There is no generated client for " + clazz.getName() +
+                    ", make sure it is annotated with @TangoClient and the ez processor is on the annotation processor path", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Maps interface method to either command execution or attribute read/write, bound to the command or attribute name.
+     * {@link Object} methods are served locally.
+     *
+     * @param tangoProxy target device
+     * @param method     interface method
+     * @return invoker
+     * @throws TangoProxyException if command lookup has failed
+     */
+    private static MethodInvoker resolveInvoker(final TangoProxy tangoProxy, Method method) throws TangoProxyException {
+        final String methodName = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            switch (methodName) {
+                case "equals":
+                    return (proxy, args) -> proxy == args[0];
+                case "hashCode":
+                    return (proxy, args) -> System.identityHashCode(proxy);
+                default:
+                    return (proxy, args) -> proxy.getClass().getInterfaces()[0].getName() + "@" + tangoProxy.getName();
+            }
+        }
+
+        if (tangoProxy.hasCommand(methodName))
+            return (proxy, args) -> tangoProxy.executeCommand(methodName, args != null ? args[0] : null);
+        else if (methodName.startsWith("get")) {
+            final String attrName = methodName.substring(3);
+            return (proxy, args) -> tangoProxy.readAttribute(attrName);
+        } else if (methodName.startsWith("is")) {
+            final String attrName = methodName.substring(2);
+            return (proxy, args) -> tangoProxy.readAttribute(attrName);
+        } else if (methodName.startsWith("set")) {
+            final String attrName = methodName.substring(3);
+            return (proxy, args) -> {
+                tangoProxy.writeAttribute(attrName, args != null ? args[0] : null);
+                return null;
+            };
+        } else
+            return (proxy, args) -> {
+                throw new TangoProxyException(tangoProxy.getName(), "Has neither command nor attribute " + methodName);
+            };
+    }
+
+    private interface MethodInvoker {
+        Object invoke(Object proxy, Object[] args) throws TangoProxyException, NoSuchCommandException, NoSuchAttributeException;
+    }
 }
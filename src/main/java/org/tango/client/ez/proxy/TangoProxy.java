@@ -36,6 +36,14 @@ package org.tango.client.ez.proxy;
 
 import fr.esrf.TangoApi.DeviceProxy;
 import fr.esrf.TangoApi.events.TangoEventsAdapter;
+import org.tango.client.ez.data.type.DirectTangoImage;
+import org.tango.client.ez.data.type.TangoImage;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Igor Khokhriakov <igor.khokhriakov@hzg.de>
@@ -59,12 +67,168 @@ public interface TangoProxy {
 
     <T> ValueTimeQuality<T> readAttributeValueTimeQuality(String attrName) throws ReadAttributeException, NoSuchAttributeException;
 
+    /**
+     * Reads numeric scalar attribute as double without boxing. DevDouble, DevFloat and integer types up to DevULong are supported.
+     *
+     * @param attrName name
+     * @return value
+     * @throws ReadAttributeException if attribute is not of a supported type
+     */
+    double readDouble(String attrName) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Same as {@link #readDouble(String)} but also stores time into the caller owned holder.
+     *
+     * @param attrName name
+     * @param result   holder to fill in
+     * @return result
+     */
+    DoubleValueTime readDouble(String attrName, DoubleValueTime result) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads integer scalar attribute as long without boxing. All integer types are supported.
+     *
+     * @param attrName name
+     * @return value
+     * @throws ReadAttributeException if attribute is not of a supported type
+     */
+    long readLong(String attrName) throws ReadAttributeException, NoSuchAttributeException;
+
+    LongValueTime readLong(String attrName, LongValueTime result) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads integer scalar attribute as int without boxing. DevLong, DevShort and DevUShort are supported.
+     *
+     * @param attrName name
+     * @return value
+     * @throws ReadAttributeException if attribute is not of a supported type
+     */
+    int readInt(String attrName) throws ReadAttributeException, NoSuchAttributeException;
+
+    IntValueTime readInt(String attrName, IntValueTime result) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads DevBoolean scalar attribute without boxing.
+     *
+     * @param attrName name
+     * @return value
+     * @throws ReadAttributeException if attribute is not DevBoolean
+     */
+    boolean readBoolean(String attrName) throws ReadAttributeException, NoSuchAttributeException;
+
+    BooleanValueTime readBoolean(String attrName, BooleanValueTime result) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads spectrum or image attribute into the caller provided array, so that the same memory can be reused for consecutive reads.
+     * Array type must match the one {@link #readAttribute(String)} returns, i.e. int[] for DevUShort.
+     *
+     * @param attrName name
+     * @param dst      one dimensional primitive array, large enough to fit the value
+     * @return number of elements read
+     * @throws ReadAttributeException if value does not fit into dst or is of another type
+     */
+    int readAttributeInto(String attrName, Object dst) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads image attribute into data of dst, which has to be of the same dimensions as the read value.
+     *
+     * @param attrName name
+     * @param dst      image to refill
+     * @param <V>      primitive array
+     * @return dst
+     * @throws ReadAttributeException if value is not an image of dst dimensions and type
+     */
+    <V> TangoImage<V> readAttributeInto(String attrName, TangoImage<V> dst) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads image attribute into off-heap dst, which has to be of the same dimensions and component type as the read value.
+     *
+     * @param attrName name
+     * @param dst      image to refill
+     * @return dst
+     * @throws ReadAttributeException if value is not an image of dst dimensions and type
+     */
+    DirectTangoImage readAttributeInto(String attrName, DirectTangoImage dst) throws ReadAttributeException, NoSuchAttributeException;
+
+    /**
+     * Reads several attributes in a single network call.
+     * <p/>
+     * Failure of a particular attribute does not affect the others, it is reported via corresponding {@link ReadAttributeResult}.
+     *
+     * @param attrNames names
+     * @param <T>       type of values
+     * @return results in the order of attrNames
+     * @throws ReadAttributeException if the call itself has failed, e.g. device is not reachable
+     */
+    <T> Map<String, ReadAttributeResult<T>> readAttributes(String... attrNames) throws ReadAttributeException;
+
+    <T> Map<String, ReadAttributeResult<ValueTime<T>>> readAttributesValueAndTime(String... attrNames) throws ReadAttributeException;
+
+    <T> Map<String, ReadAttributeResult<ValueTimeQuality<T>>> readAttributesValueTimeQuality(String... attrNames) throws ReadAttributeException;
+
     <T> void writeAttribute(String attrName, T value) throws WriteAttributeException, NoSuchAttributeException;
 
     <V> V executeCommand(String cmd) throws ExecuteCommandException, NoSuchCommandException;
 
     <T, V> V executeCommand(String cmd, T value) throws ExecuteCommandException, NoSuchCommandException;
 
+    /**
+     * Asynchronous version of {@link TangoProxy#readAttribute(String)}.
+     * <p/>
+     * Returned future is completed exceptionally with {@link ReadAttributeException} or {@link NoSuchAttributeException}
+     * in case of failure.
+     *
+     * @param attrName name
+     * @param <T>      type of value
+     * @return a future of the value
+     */
+    <T> CompletableFuture<T> readAttributeAsync(String attrName);
+
+    <T> CompletableFuture<Void> writeAttributeAsync(String attrName, T value);
+
+    <V> CompletableFuture<V> executeCommandAsync(String cmd);
+
+    <T, V> CompletableFuture<V> executeCommandAsync(String cmd, T value);
+
+    /**
+     * Asynchronous version of {@link TangoProxy#readAttributesValueTimeQuality(String...)}.
+     * <p/>
+     * Returned future is completed exceptionally with {@link ReadAttributeException} if the call itself has failed,
+     * cancelling it drops the request.
+     *
+     * @param attrNames names
+     * @param <T>       type of values
+     * @return a future of results in the order of attrNames
+     */
+    <T> CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<T>>>> readAttributesValueTimeQualityAsync(String... attrNames);
+
+    /**
+     * Same as {@link #readAttribute(String)} but waits no longer than timeout. The call is sent as an asynchronous Tango request,
+     * which is cancelled when timeout elapses, so neither the calling thread nor any other thread keeps waiting for the device.
+     *
+     * @param attrName name
+     * @param timeout  max time to wait
+     * @param unit     unit of timeout
+     * @param <T>      type of value
+     * @return value
+     * @throws TangoTimeoutException if the call has not completed in time
+     */
+    <T> T readAttribute(String attrName, long timeout, TimeUnit unit) throws ReadAttributeException, NoSuchAttributeException, TangoTimeoutException;
+
+    /**
+     * Same as {@link #writeAttribute(String, Object)} but waits no longer than timeout, see {@link #readAttribute(String, long, TimeUnit)}
+     *
+     * @throws TangoTimeoutException if the call has not completed in time
+     */
+    <T> void writeAttribute(String attrName, T value, long timeout, TimeUnit unit) throws WriteAttributeException, NoSuchAttributeException, TangoTimeoutException;
+
+    /**
+     * Same as {@link #executeCommand(String, Object)} but waits no longer than timeout, see {@link #readAttribute(String, long, TimeUnit)}
+     *
+     * @throws TangoTimeoutException if the call has not completed in time
+     */
+    <T, V> V executeCommand(String cmd, T value, long timeout, TimeUnit unit) throws ExecuteCommandException, NoSuchCommandException, TangoTimeoutException;
+
     /**
      * @param attrName
      * @param event
@@ -88,10 +252,54 @@ public interface TangoProxy {
      */
     <T> void addEventListener(String attrName, TangoEvent event, TangoEventListener<T> listener);
 
+    /**
+     * Same as {@link TangoProxy#addEventListener(String, TangoEvent, TangoEventListener)} but the listener is notified
+     * by the executor via bounded queue, so that slow listener does not stall delivery to other listeners.
+     *
+     * @param attrName
+     * @param event
+     * @param listener
+     * @param executor delivers events to the listener
+     * @param capacity max number of pending events
+     * @param policy   what to do when queue is full
+     * @param <T>
+     * @throws IllegalStateException if client is not subscribed to the event
+     */
+    <T> void addEventListener(String attrName, TangoEvent event, TangoEventListener<T> listener, Executor executor, int capacity, EventOverflowPolicy policy);
+
+    /**
+     * Conflating alternative to listeners: returned slot keeps only the latest event, its value is extracted when
+     * user polls it. Before calling this method make sure that client is already subscribed to the attribute.
+     * <p/>
+     * Slot is cached in a weak reference. So it is users responsibility to preserve a reference to it.
+     *
+     * @param attrName
+     * @param event
+     * @param <T>
+     * @return a new slot
+     * @throws IllegalStateException if client is not subscribed to the event
+     */
+    <T> LatestEventSlot<T> addLatestEventSlot(String attrName, TangoEvent event);
+
+    <T> void removeLatestEventSlot(String attrName, TangoEvent event, LatestEventSlot<T> slot);
+
     <T> void removeEventListener(String attrName, TangoEvent event, TangoEventListener<T> listener);
 
     void unsubscribeFromEvent(String attrName, TangoEvent event) throws TangoProxyException;
 
+    /**
+     * Returns {@link Flow.Publisher} view of the event. Subscription to the event is performed when the first
+     * subscriber arrives and is dropped when the last one cancels (unless client has subscribed on its own).
+     * Event errors, i.e. API_EventTimeout, are skipped, onError signals only that the event can not be subscribed.
+     *
+     * @param attrName
+     * @param event
+     * @param bufferSize max number of not yet requested events per subscriber, the oldest ones are discarded
+     * @param <T>
+     * @return a publisher
+     */
+    <T> Flow.Publisher<EventData<T>> newEventPublisher(String attrName, TangoEvent event, int bufferSize);
+
     TangoCommandInfoWrapper getCommandInfo(String cmdName) throws TangoProxyException, NoSuchCommandException;
 
     boolean hasCommand(String name) throws TangoProxyException;
@@ -107,7 +315,28 @@ public interface TangoProxy {
     TangoEventsAdapter toTangoEventsAdapter();
 
     /**
-     * Drops all cached values, aka command and attribute infos
+     * Fills attribute and command infos cache in bulk, i.e. two network calls for all attributes and commands of the device.
+     *
+     * @throws TangoProxyException
+     */
+    void prefetchMetadata() throws TangoProxyException;
+
+    /**
+     * Enables client side caching of the attribute value. Single attribute reads, i.e. {@link #readAttribute(String)},
+     * {@link #readAttributeValueTimeQuality(String)} or {@link #readDouble(String)}, return the value read from the device
+     * (or received with CHANGE event, if subscribed) no more than maxAge ago. Concurrent reads of an outdated value share a single device read.
+     * <p/>
+     * Write of the attribute drops its cached value; changes made by commands are not tracked. Failed reads are not cached.
+     * Every read of a cached spectrum or image attribute returns its own copy of the value.
+     *
+     * @param attrName name
+     * @param maxAge   0 disables caching of the attribute
+     * @param unit     unit of maxAge
+     */
+    void setValueCacheMaxAge(String attrName, long maxAge, TimeUnit unit);
+
+    /**
+     * Drops all cached values, aka command and attribute infos, names known not to exist and attribute values
      */
     void reset();
 }
@@ -45,6 +45,13 @@ import fr.esrf.Tango.ErrSeverity;
  * @since 07.06.12
  */
 public class TangoProxyException extends Exception {
+    /**
+     * System property, set it to true to skip Java stack trace of this exception and its subclasses, as well as of
+     * {@link NoSuchAttributeException} and {@link NoSuchCommandException} which then become shared instances.
+     * {@link DevFailed} error stack is kept anyway.
+     */
+    public static final String TANGO_PROXY_EXCEPTION_STACKLESS = "tango.proxy.exception.stackless";
+
     public final String device;
 
     public final String reason;
@@ -73,7 +80,8 @@ public class TangoProxyException extends Exception {
         this.reason = cause.toString();
         this.severity = ErrSeverity.ERR.toString();
         this.desc = cause.getLocalizedMessage();
-        this.origin = cause.getStackTrace()[0].toString();
+        StackTraceElement[] causeTrace = cause.getStackTrace();
+        this.origin = causeTrace.length > 0 ? causeTrace[0].toString() : "";
 
         this.devFailed = null;
     }
@@ -85,11 +93,20 @@ public class TangoProxyException extends Exception {
         this.reason = "Exception";
         this.severity = ErrSeverity.ERR.toString();
         this.desc = msg;
-        this.origin = Thread.currentThread().getStackTrace()[1].toString();
+        this.origin = isStackless() ? "" : Thread.currentThread().getStackTrace()[1].toString();
 
         this.devFailed = null;
     }
 
+    static boolean isStackless() {
+        return Boolean.getBoolean(TANGO_PROXY_EXCEPTION_STACKLESS);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return isStackless() ? this : super.fillInStackTrace();
+    }
+
     @Override
     public String getMessage() {
         return String.format("%s:%s[%s]", device, reason, desc);
@@ -0,0 +1,219 @@
+package org.tango.client.ez.proxy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import fr.esrf.Tango.DevFailed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Performs the same call on many devices in parallel and gathers per device replies, so that the whole call takes
+ * about as long as the slowest device.
+ * <p/>
+ * Devices may be partitioned, i.e. by device server via {@link #BY_SERVER}. Calls to devices of the same partition are made
+ * one after another by a single task, so that a server gets one request at a time rather than one per device.
+ * <p/>
+ * Parallelism is bounded by the executor, i.e. {@link java.util.concurrent.Executors#newFixedThreadPool(int)}.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+public final class TangoProxyGroup {
+    private static final Logger logger = LoggerFactory.getLogger(TangoProxyGroup.class);
+    /**
+     * Partitions devices by their admin device, i.e. by device server. Admin device name is queried once, when group is created
+     */
+    public static final Function<TangoProxy, Object> BY_SERVER = proxy -> {
+        try {
+            return proxy.toDeviceProxy().adm_name().toLowerCase();
+        } catch (DevFailed devFailed) {
+            logger.debug("TangoProxyGroup#BY_SERVER has failed. {}", proxy.getName());
+            return proxy;
+        }
+    };
+
+    private final List<TangoProxy> proxies;
+    private final Executor executor;
+    /**
+     * Indices of proxies per partition
+     */
+    private final int[][] partitions;
+
+    /**
+     * Each device is called by its own thread of this group, so that devices hung by other callers do not delay this group.
+     * Threads exit when idle.
+     *
+     * @param proxies devices
+     */
+    public TangoProxyGroup(Collection<? extends TangoProxy> proxies) {
+        this(proxies, newExecutor(proxies.size()));
+    }
+
+    private static Executor newExecutor(int threads) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(Math.max(threads, 1), Math.max(threads, 1), 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setNameFormat("ez-tango-group-%d").setDaemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    /**
+     * @param proxies  devices
+     * @param executor executes calls
+     */
+    public TangoProxyGroup(Collection<? extends TangoProxy> proxies, Executor executor) {
+        this(proxies, executor, Function.identity());
+    }
+
+    /**
+     * @param proxies   devices
+     * @param executor  executes calls
+     * @param partition key of the partition of a device, i.e. {@link #BY_SERVER}
+     */
+    public TangoProxyGroup(Collection<? extends TangoProxy> proxies, Executor executor, Function<? super TangoProxy, ?> partition) {
+        this.proxies = Collections.unmodifiableList(new ArrayList<TangoProxy>(proxies));
+        this.executor = executor;
+        Map<Object, List<Integer>> partitions = new LinkedHashMap<Object, List<Integer>>();
+        for (int i = 0; i < this.proxies.size(); i++) {
+            Object key = partition.apply(this.proxies.get(i));
+            List<Integer> indices = partitions.get(key);
+            if (indices == null) partitions.put(key, indices = new ArrayList<Integer>());
+            indices.add(i);
+        }
+        this.partitions = new int[partitions.size()][];
+        int i = 0;
+        for (List<Integer> indices : partitions.values()) {
+            int[] partitionIndices = new int[indices.size()];
+            for (int j = 0; j < partitionIndices.length; j++) partitionIndices[j] = indices.get(j);
+            this.partitions[i++] = partitionIndices;
+        }
+    }
+
+    public List<TangoProxy> getProxies() {
+        return proxies;
+    }
+
+    /**
+     * @return replies in the order of {@link #getProxies()}
+     * @throws InterruptedException if current thread has been interrupted while waiting for replies
+     */
+    public <T> List<GroupReply<T>> readAttribute(String attrName) throws InterruptedException {
+        return await(this.<T>readAttributeAsync(attrName));
+    }
+
+    public <T> CompletableFuture<List<GroupReply<T>>> readAttributeAsync(String attrName) {
+        logger.trace("TangoProxyGroup#readAttributeAsync {}", attrName);
+        return invokeAsync(proxy -> proxy.<T>readAttribute(attrName));
+    }
+
+    /**
+     * @return replies in the order of {@link #getProxies()}
+     * @throws InterruptedException if current thread has been interrupted while waiting for replies
+     */
+    public <T> List<GroupReply<Void>> writeAttribute(String attrName, T value) throws InterruptedException {
+        return await(writeAttributeAsync(attrName, value));
+    }
+
+    public <T> CompletableFuture<List<GroupReply<Void>>> writeAttributeAsync(String attrName, T value) {
+        logger.trace("TangoProxyGroup#writeAttributeAsync {}={}", attrName, value);
+        return invokeAsync(proxy -> {
+            proxy.writeAttribute(attrName, value);
+            return null;
+        });
+    }
+
+    /**
+     * @return replies in the order of {@link #getProxies()}
+     * @throws InterruptedException if current thread has been interrupted while waiting for replies
+     */
+    public <V> List<GroupReply<V>> executeCommand(String cmd) throws InterruptedException {
+        return executeCommand(cmd, null);
+    }
+
+    /**
+     * @return replies in the order of {@link #getProxies()}
+     * @throws InterruptedException if current thread has been interrupted while waiting for replies
+     */
+    public <T, V> List<GroupReply<V>> executeCommand(String cmd, T value) throws InterruptedException {
+        return await(this.<T, V>executeCommandAsync(cmd, value));
+    }
+
+    public <V> CompletableFuture<List<GroupReply<V>>> executeCommandAsync(String cmd) {
+        return executeCommandAsync(cmd, null);
+    }
+
+    public <T, V> CompletableFuture<List<GroupReply<V>>> executeCommandAsync(String cmd, T value) {
+        logger.trace("TangoProxyGroup#executeCommandAsync {}({})", cmd, value);
+        return invokeAsync(proxy -> proxy.<T, V>executeCommand(cmd, value));
+    }
+
+    /**
+     * Performs arbitrary call on every device of this group
+     *
+     * @param call performed per device
+     * @param <R>  type of result
+     * @return future of replies in the order of {@link #getProxies()}; it is never completed exceptionally
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<List<GroupReply<R>>> invokeAsync(Call<R> call) {
+        final GroupReply<R>[] replies = new GroupReply[proxies.size()];
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            final int[] partition = partitions[i];
+            try {
+                tasks[i] = CompletableFuture.runAsync(() -> {
+                    for (int index : partition) replies[index] = invoke(proxies.get(index), call);
+                }, executor);
+            } catch (RejectedExecutionException e) {
+                logger.debug("TangoProxyGroup#invokeAsync has been rejected.");
+                for (int index : partition) replies[index] = GroupReply.failure(proxies.get(index), e, 0L);
+                tasks[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        return CompletableFuture.allOf(tasks).thenApply(ignored -> Collections.unmodifiableList(Arrays.asList(replies)));
+    }
+
+    private static <R> GroupReply<R> invoke(TangoProxy proxy, Call<R> call) {
+        long start = System.nanoTime();
+        try {
+            R result = call.call(proxy);
+            return GroupReply.success(proxy, result, System.nanoTime() - start);
+        } catch (Exception e) {
+            logger.debug("TangoProxyGroup#invoke has failed. {}", proxy.getName());
+            return GroupReply.failure(proxy, e, System.nanoTime() - start);
+        }
+    }
+
+    private static <R> List<GroupReply<R>> await(CompletableFuture<List<GroupReply<R>>> replies) throws InterruptedException {
+        try {
+            return replies.get();
+        } catch (ExecutionException e) {
+            //replies capture failures, so this is a bug
+            throw new AssertionError(e.getCause());
+        }
+    }
+
+    /**
+     * Call of a single device
+     *
+     * @param <R> type of result
+     */
+    public interface Call<R> {
+        R call(TangoProxy proxy) throws Exception;
+    }
+}
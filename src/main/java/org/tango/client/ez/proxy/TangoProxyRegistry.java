@@ -0,0 +1,160 @@
+package org.tango.client.ez.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reference counted proxies shared by device, see {@link TangoProxies#getOrCreateDeviceProxyWrapper(String)}.
+ * <p/>
+ * Proxy is created by the first acquire of the device. When the last reference has been released, proxy is kept
+ * for idleTtl milliseconds so that a subsequent acquire reuses it, then it is evicted and its event subscriptions are dropped.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+final class TangoProxyRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TangoProxyRegistry.class);
+    private static final String TANGO_SCHEME = "tango:";
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final ConcurrentMap<TangoProxy, Entry> entriesByProxy = new ConcurrentHashMap<TangoProxy, Entry>();
+    private final long idleTtl;
+    private final ProxyFactory factory;
+
+    /**
+     * @param idleTtl milliseconds unreferenced proxy is kept for
+     * @param factory creates proxies
+     */
+    TangoProxyRegistry(long idleTtl, ProxyFactory factory) {
+        this.idleTtl = idleTtl;
+        this.factory = factory;
+    }
+
+    /**
+     * @param url path to tango server
+     * @return shared proxy, its reference count is incremented
+     * @throws TangoProxyException if proxy can not be created
+     */
+    TangoProxy acquire(String url) throws TangoProxyException {
+        String key = normalize(url);
+        for (; ; ) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                Entry created = new Entry(key);
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) entry = created;
+            }
+            TangoProxy result = entry.acquire(url);
+            if (result != null) return result;
+            //entry has just been evicted, so try again
+        }
+    }
+
+    /**
+     * Decrements reference count of the proxy
+     *
+     * @param proxy acquired from this registry
+     * @throws IllegalArgumentException if proxy is not registered here, i.e. has been released more times than acquired
+     */
+    void release(TangoProxy proxy) {
+        Entry entry = entriesByProxy.get(proxy);
+        if (entry == null) throw new IllegalArgumentException("Proxy is not registered: " + proxy);
+        entry.release();
+    }
+
+    /**
+     * @return number of registered devices, including idle ones
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Device names are case insensitive; tango: scheme is dropped; device of the default Tango host is prefixed with it,
+     * i.e. sys/tg_test/1 -> //host:10000/sys/tg_test/1 if TANGO_HOST=host:10000
+     */
+    static String normalize(String url) {
+        String result = url.trim().toLowerCase();
+        if (result.startsWith(TANGO_SCHEME)) result = result.substring(TANGO_SCHEME.length());
+        if (!result.startsWith("//")) {
+            String tangoHost = System.getProperty("TANGO_HOST", System.getenv("TANGO_HOST"));
+            if (tangoHost != null) result = "//" + tangoHost.trim().toLowerCase() + "/" + result;
+        }
+        return result;
+    }
+
+    interface ProxyFactory {
+        TangoProxy create(String url) throws TangoProxyException;
+    }
+
+    private final class Entry {
+        private final String key;
+        private TangoProxy proxy;
+        private int references;
+        /**
+         * Incremented on every acquire/release, so that scheduled eviction is skipped if the proxy has been used meanwhile
+         */
+        private long generation;
+        private boolean evicted;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return proxy or null if this entry has been evicted
+         */
+        synchronized TangoProxy acquire(String url) throws TangoProxyException {
+            if (evicted) return null;
+            if (proxy == null) {
+                try {
+                    proxy = factory.create(url);
+                } catch (TangoProxyException e) {
+                    evicted = true;
+                    entries.remove(key, this);
+                    throw e;
+                }
+                entriesByProxy.put(proxy, this);
+            }
+            references++;
+            generation++;
+            return proxy;
+        }
+
+        void release() {
+            final long idleGeneration;
+            synchronized (this) {
+                if (references == 0) throw new IllegalArgumentException("Proxy has been released more times than acquired: " + key);
+                generation++;
+                if (--references > 0) return;
+                idleGeneration = generation;
+            }
+            if (idleTtl <= 0)
+                evictIfIdle(idleGeneration);
+            else
+                CompletableFuture.delayedExecutor(idleTtl, TimeUnit.MILLISECONDS).execute(() -> evictIfIdle(idleGeneration));
+        }
+
+        /**
+         * Unsubscribes outside of the lock, as it calls the device and must not block acquire/release meanwhile
+         */
+        private void evictIfIdle(long idleGeneration) {
+            final TangoProxy evictedProxy;
+            synchronized (this) {
+                if (evicted || references > 0 || generation != idleGeneration) return;
+                logger.debug("TangoProxyRegistry evicts idle proxy {}", key);
+                evicted = true;
+                entries.remove(key, this);
+                entriesByProxy.remove(proxy, this);
+                evictedProxy = proxy;
+            }
+            if (evictedProxy instanceof DeviceProxyWrapper) ((DeviceProxyWrapper) evictedProxy).unsubscribeFromAllEvents();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.tango.client.ez.proxy;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Values of many attributes of many devices read at about the same time, see {@link TangoSnapshotReader}.
+ * <p/>
+ * Every requested attribute has a result: either a value with its time and quality or a failure.
+ * Attributes of devices that have not replied before the deadline fail with {@link ReadAttributeException}.
+ *
+ * @since 17.10.2026
+ */
+public final class TangoSnapshot {
+    private final Map<String, Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> results;
+    private final boolean complete;
+    private final long minTime;
+    private final long maxTime;
+
+    TangoSnapshot(Map<String, Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> results, boolean complete) {
+        this.results = Collections.unmodifiableMap(results);
+        this.complete = complete;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        for (Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> device : results.values())
+            for (ReadAttributeResult<ValueTimeQuality<Object>> result : device.values()) {
+                if (result.hasFailed()) continue;
+                ValueTimeQuality<Object> value = getValue(result);
+                minTime = Math.min(minTime, value.time);
+                maxTime = Math.max(maxTime, value.time);
+            }
+        this.minTime = minTime;
+        this.maxTime = maxTime;
+    }
+
+    private static ValueTimeQuality<Object> getValue(ReadAttributeResult<ValueTimeQuality<Object>> result) {
+        try {
+            return result.get();
+        } catch (ReadAttributeException | NoSuchAttributeException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * @param device   device name as returned by {@link TangoProxy#getName()}
+     * @param attrName name
+     * @return result or null if the attribute has not been requested
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ReadAttributeResult<ValueTimeQuality<T>> get(String device, String attrName) {
+        Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> deviceResults = results.get(device);
+        if (deviceResults == null) return null;
+        return (ReadAttributeResult<ValueTimeQuality<T>>) (ReadAttributeResult<?>) deviceResults.get(attrName);
+    }
+
+    /**
+     * @return results per attribute name per device name
+     */
+    public Map<String, Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> getResults() {
+        return results;
+    }
+
+    /**
+     * @return false if some devices have not replied before the deadline
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the earliest time of the read values in milliseconds, Long.MAX_VALUE if nothing has been read
+     */
+    public long getMinTime() {
+        return minTime;
+    }
+
+    /**
+     * @return the latest time of the read values in milliseconds, Long.MIN_VALUE if nothing has been read
+     */
+    public long getMaxTime() {
+        return maxTime;
+    }
+
+    /**
+     * @return difference between the latest and the earliest time of the read values in milliseconds, 0 if nothing has been read
+     */
+    public long getTimeSkew() {
+        return maxTime < minTime ? 0L : maxTime - minTime;
+    }
+}
@@ -0,0 +1,174 @@
+package org.tango.client.ez.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reads {@link TangoSnapshot} of many attributes of many devices.
+ * <p/>
+ * Attributes of a device are read by a single {@link TangoProxy#readAttributesValueTimeQualityAsync(String...)} call and all
+ * devices are read at once without a thread per device, so that the time skew of the snapshot is about the latency of the
+ * slowest device rather than the sum of all of them.
+ * <p/>
+ * Instance may be reused to take snapshots of the same attributes periodically.
+ *
+ * @since 17.10.2026
+ */
+@ThreadSafe
+public final class TangoSnapshotReader {
+    private static final Logger logger = LoggerFactory.getLogger(TangoSnapshotReader.class);
+
+    private final Map<TangoProxy, String[]> attributes = new LinkedHashMap<TangoProxy, String[]>();
+
+    /**
+     * @param attributes names of attributes per device
+     */
+    public TangoSnapshotReader(Map<? extends TangoProxy, ? extends Collection<String>> attributes) {
+        for (Map.Entry<? extends TangoProxy, ? extends Collection<String>> entry : attributes.entrySet())
+            this.attributes.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+    }
+
+    /**
+     * Waits for all devices
+     *
+     * @return complete snapshot
+     * @throws InterruptedException if current thread has been interrupted while waiting for devices, pending reads are cancelled
+     */
+    public TangoSnapshot read() throws InterruptedException {
+        List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> reads = start();
+        try {
+            allDone(reads).get();
+        } catch (InterruptedException e) {
+            cancel(reads);
+            throw e;
+        } catch (ExecutionException e) {
+            //failures of device reads are ignored by allDone, so this is a bug
+            throw new AssertionError(e.getCause());
+        }
+        return collect(reads);
+    }
+
+    /**
+     * Waits for devices no longer than timeout. Reads of devices that have not replied by then are cancelled
+     * and their attributes are reported as failed.
+     *
+     * @param timeout max time to wait
+     * @param unit    unit of timeout
+     * @return possibly partial snapshot, see {@link TangoSnapshot#isComplete()}
+     * @throws InterruptedException if current thread has been interrupted while waiting for devices, pending reads are cancelled
+     */
+    public TangoSnapshot read(long timeout, TimeUnit unit) throws InterruptedException {
+        List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> reads = start();
+        try {
+            allDone(reads).get(timeout, unit);
+        } catch (TimeoutException e) {
+            logger.debug("TangoSnapshotReader#read has exceeded deadline of {} {}", timeout, unit);
+            cancel(reads);
+        } catch (InterruptedException e) {
+            cancel(reads);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new AssertionError(e.getCause());
+        }
+        return collect(reads);
+    }
+
+    /**
+     * @return future of complete snapshot
+     */
+    public CompletableFuture<TangoSnapshot> readAsync() {
+        List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> reads = start();
+        return allDone(reads).thenApply(ignored -> collect(reads));
+    }
+
+    private List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> start() {
+        List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> result =
+                new ArrayList<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>>(attributes.size());
+        for (Map.Entry<TangoProxy, String[]> entry : attributes.entrySet()) {
+            TangoProxy proxy = entry.getKey();
+            String[] attrNames = entry.getValue();
+            try {
+                result.add(proxy.<Object>readAttributesValueTimeQualityAsync(attrNames));
+            } catch (RuntimeException e) {
+                logger.debug("TangoSnapshotReader#read has failed. {}", proxy.getName());
+                result.add(CompletableFuture.completedFuture(failDevice(proxy, attrNames,
+                        new ReadAttributeException(proxy.getName(), String.join(",", attrNames), e))));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return future that completes normally once every read is done, whatever its outcome
+     */
+    private static CompletableFuture<Void> allDone(List<? extends CompletableFuture<?>> reads) {
+        CompletableFuture<?>[] done = new CompletableFuture<?>[reads.size()];
+        for (int i = 0; i < done.length; ++i) done[i] = reads.get(i).handle((value, e) -> null);
+        return CompletableFuture.allOf(done);
+    }
+
+    /**
+     * Drops requests of devices that have not replied yet
+     */
+    private static void cancel(List<? extends CompletableFuture<?>> reads) {
+        for (CompletableFuture<?> read : reads) read.cancel(false);
+    }
+
+    private static Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> failDevice(TangoProxy proxy, String[] attrNames, ReadAttributeException failure) {
+        Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> result = new LinkedHashMap<String, ReadAttributeResult<ValueTimeQuality<Object>>>(attrNames.length);
+        for (String attrName : attrNames) result.put(attrName, ReadAttributeResult.<ValueTimeQuality<Object>>failure(attrName, failure));
+        return result;
+    }
+
+    private TangoSnapshot collect(List<CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>> reads) {
+        Map<String, Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> results =
+                new LinkedHashMap<String, Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>>(attributes.size());
+        boolean complete = true;
+        int i = 0;
+        for (Map.Entry<TangoProxy, String[]> entry : attributes.entrySet()) {
+            TangoProxy proxy = entry.getKey();
+            CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> read = reads.get(i++);
+            Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> deviceResults;
+            if (!read.isDone() || read.isCancelled()) {
+                complete = false;
+                deviceResults = failDevice(proxy, entry.getValue(),
+                        new ReadAttributeException(proxy.getName(), String.join(",", entry.getValue()), "Snapshot deadline has been exceeded"));
+            } else {
+                deviceResults = getDeviceResults(proxy, entry.getValue(), read);
+            }
+            Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> existing = results.get(proxy.getName());
+            if (existing != null)
+                existing.putAll(deviceResults);
+            else
+                results.put(proxy.getName(), new LinkedHashMap<String, ReadAttributeResult<ValueTimeQuality<Object>>>(deviceResults));
+        }
+        return new TangoSnapshot(results, complete);
+    }
+
+    /**
+     * @param read completed read of the device
+     */
+    private static Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> getDeviceResults(
+            TangoProxy proxy, String[] attrNames, CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> read) {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            logger.debug("TangoSnapshotReader#read has failed. {}", proxy.getName());
+            Throwable cause = e.getCause();
+            return failDevice(proxy, attrNames, cause instanceof ReadAttributeException ?
+                    (ReadAttributeException) cause : new ReadAttributeException(proxy.getName(), String.join(",", attrNames), cause));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevError;
+import fr.esrf.Tango.DevFailed;
+
+/**
+ * Thrown by calls with a deadline, i.e. {@link TangoProxy#readAttribute(String, long, java.util.concurrent.TimeUnit)},
+ * when the call has not completed in time, either on the client side or due to Tango client timeout (API_DeviceTimedOut).
+ *
+ * @since 17.10.2026
+ */
+public class TangoTimeoutException extends TangoProxyException {
+    public static final String API_DEVICE_TIMED_OUT = "API_DeviceTimedOut";
+
+    public TangoTimeoutException(String device, String msg) {
+        super(device, msg);
+    }
+
+    public TangoTimeoutException(String device, DevFailed devFailed) {
+        super(device, devFailed);
+    }
+
+    /**
+     * @return true if devFailed is a Tango client timeout
+     */
+    static boolean isTimeout(DevFailed devFailed) {
+        if (devFailed == null) return false;
+        for (DevError error : devFailed.errors)
+            if (API_DEVICE_TIMED_OUT.equalsIgnoreCase(error.reason)) return true;
+        return false;
+    }
+}
@@ -46,7 +46,7 @@ import java.util.Arrays;
  * in which message is a full information of cause extracted from {@link DevError}s containing in the devFailed.
  * <p/>
  * {@link TangoUtils#createDevError(String, String)} creates new {@link DevError} with specified reason and description,
- * severity=ERR and current stack trace.
+ * severity=ERR and up to three caller frames as origin, see {@link TangoUtils#TANGO_DEV_ERROR_CAPTURES_ORIGIN}.
  * <p/>
  * {@link TangoUtils#createDevError(Throwable)} creates new {@link DevError} with specified reason (throwable.getMessage)
  * and description (throwable.getCause().getMessage()), severity=ERR and throwable stack trace.
@@ -57,6 +57,13 @@ import java.util.Arrays;
  * @since 02.05.12
  */
 public final class TangoUtils {
+    /**
+     * System property, set it to false to omit origin (caller frames) of the errors created by {@link #createDevError(String, String)}
+     */
+    public static final String TANGO_DEV_ERROR_CAPTURES_ORIGIN = "tango.dev.error.captures.origin";
+    private static final int ORIGIN_DEPTH = 3;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     //utility class
     private TangoUtils() {
     }
@@ -73,19 +80,44 @@ public final class TangoUtils {
 
     /**
      * Creates new {@link DevError} with specified reason and description,
-     * severity=ERR and current stack trace.
+     * severity=ERR and up to three caller frames as origin.
      *
      * @param reason      reason
      * @param description description
      * @return DevError
      */
     public static DevError createDevError(String reason, String description) {
-        StackTraceElement[] traceElements = Thread.getAllStackTraces().get(Thread.currentThread());
-        return new DevError(reason, ErrSeverity.ERR, description,
-                Arrays.toString(
-                        Arrays.copyOfRange(
-                                traceElements, 3/*skip first elements: dumpThreads; getAllStackTraces; createDevError*/,
-                                traceElements.length > 6 ? 6 : traceElements.length)));
+        return new DevError(reason, ErrSeverity.ERR, description, captureOrigin());
+    }
+
+    /**
+     * Walks only the first {@link #ORIGIN_DEPTH} frames of the current thread, skipping this class
+     *
+     * @return caller frames formatted as {@link Arrays#toString(Object[])} or an empty string if origin capture is disabled
+     */
+    private static String captureOrigin() {
+        if (!Boolean.parseBoolean(System.getProperty(TANGO_DEV_ERROR_CAPTURES_ORIGIN, "true"))) return "";
+        StackTraceElement[] traceElements = STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().equals(TangoUtils.class.getName()))
+                .limit(ORIGIN_DEPTH)
+                .map(TangoUtils::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+        return Arrays.toString(traceElements);
+    }
+
+    /**
+     * Unlike {@link StackWalker.StackFrame#toStackTraceElement()} keeps class loader name, i.e. app//, so origin looks
+     * the same as the one of a thread dump
+     */
+    private static StackTraceElement toStackTraceElement(StackWalker.StackFrame frame) {
+        Class<?> declaringClass = frame.getDeclaringClass();
+        ClassLoader classLoader = declaringClass.getClassLoader();
+        Module module = declaringClass.getModule();
+        return new StackTraceElement(
+                classLoader != null ? classLoader.getName() : null,
+                module.isNamed() ? module.getName() : null,
+                module.isNamed() ? module.getDescriptor().rawVersion().orElse(null) : null,
+                frame.getClassName(), frame.getMethodName(), frame.getFileName(), frame.getLineNumber());
     }
 
     /**
@@ -39,6 +39,7 @@ import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.tango.client.ez.data.type.DirectTangoImage;
 import org.tango.client.ez.data.type.TangoImage;
 import org.tango.client.ez.util.TangoImageUtils;
 
@@ -46,8 +47,19 @@ import javax.imageio.ImageIO;
 import java.awt.image.RenderedImage;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static junit.framework.Assert.*;
 import static org.junit.Assert.assertArrayEquals;
@@ -314,4 +326,302 @@ public class ITTangoProxyWrapperTest {
         assertSame(DevState.RUNNING, result);
     }
 
+    @Test
+    public void testReadAttributes() throws Exception {
+        instance.writeAttribute("double_scalar_w", 0.1984D);
+        instance.writeAttribute("string_scalar", "Some test value");
+
+        Map<String, ReadAttributeResult<Object>> result = instance.readAttributes("double_scalar_w", "string_scalar", "string_scalarxxx");
+
+        assertEquals(3, result.size());
+        assertEquals(0.1984D, result.get("double_scalar_w").get());
+        assertEquals("Some test value", result.get("string_scalar").get());
+        assertTrue(result.get("string_scalarxxx").hasFailed());
+    }
+
+    @Test
+    public void testReadAttributesValueTimeQuality() throws Exception {
+        Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> result = instance.readAttributesValueTimeQuality("long_scalar", "State");
+
+        assertFalse(result.get("long_scalar").hasFailed());
+        assertSame(DevState.RUNNING, result.get("State").get().value);
+    }
+
+    @Test
+    public void testReadAttributeAsync() throws Exception {
+        instance.writeAttributeAsync("double_scalar_w", 0.1984D).get();
+
+        double result = instance.<Double>readAttributeAsync("double_scalar_w").get();
+
+        assertEquals(0.1984D, result);
+    }
+
+    @Test
+    public void testReadAttributeAsync_Failed() throws Exception {
+        try {
+            instance.readAttributeAsync("string_scalarxxx").get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof NoSuchAttributeException);
+        }
+    }
+
+    @Test
+    public void testExecuteCommandAsync() throws Exception {
+        String result = instance.<String, String>executeCommandAsync("DevString", "Some test value").get();
+
+        assertEquals("Some test value", result);
+    }
+
+    @Test
+    public void testPrefetchMetadata() throws Exception {
+        TangoProxy instance = TangoProxies.newDeviceProxyWrapper(TEST_TANGO, true);
+
+        assertSame(instance.getAttributeInfo("double_scalar_w"), instance.getAttributeInfo("double_scalar_w"));
+        assertTrue(instance.hasCommand("DevString"));
+    }
+
+    @Test
+    public void testMetadataCache() throws Exception {
+        Path directory = Files.createTempDirectory("ez-tango-metadata");
+        TangoMetadataCache cache = new TangoMetadataCache(directory);
+
+        TangoProxy instance = TangoProxies.newDeviceProxyWrapper(TEST_TANGO, cache);
+        instance.prefetchMetadata();
+
+        TangoProxy restored = TangoProxies.newDeviceProxyWrapper(TEST_TANGO, cache);
+        restored.writeAttribute("double_scalar_w", 0.1984D);
+        assertEquals(0.1984D, restored.<Double>readAttribute("double_scalar_w"));
+    }
+
+    @Test
+    public void testLatestEventSlot() throws Exception {
+        instance.toDeviceProxy().poll_attribute("long_scalar", 100);
+        instance.subscribeToEvent("long_scalar", TangoEvent.CHANGE);
+
+        LatestEventSlot<Integer> slot = instance.addLatestEventSlot("long_scalar", TangoEvent.CHANGE);
+        while (!slot.hasEvent()) {
+            Thread.sleep(100);
+        }
+
+        assertNotNull(slot.poll());
+        instance.removeLatestEventSlot("long_scalar", TangoEvent.CHANGE, slot);
+    }
+
+    @Test
+    public void testEventPublisher() throws Exception {
+        instance.toDeviceProxy().poll_attribute("long_scalar", 100);
+
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        instance.<Integer>newEventPublisher("long_scalar", TangoEvent.CHANGE, 16).subscribe(new Flow.Subscriber<EventData<Integer>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(EventData<Integer> item) {
+                subscription.cancel();
+                done.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        if (error.get() != null) throw new AssertionError(error.get());
+    }
+
+    @Test
+    public void testHasCommand_missingNameIsCached() throws Exception {
+        assertFalse(instance.hasCommand("double_scalar"));
+        assertFalse(instance.hasCommand("double_scalar"));
+        assertFalse(instance.hasAttribute("DevString"));
+
+        instance.reset();
+
+        assertFalse(instance.hasCommand("double_scalar"));
+        assertTrue(instance.hasCommand("DevString"));
+    }
+
+    public interface TangoTest {
+        double getdouble_scalar();
+
+        void setdouble_scalar_w(double value);
+
+        String DevString(String value);
+    }
+
+    @Test
+    public void testNewTangoProxy() throws Exception {
+        TangoTest tangoTest = TangoProxies.newTangoProxy(TEST_TANGO, TangoTest.class);
+
+        tangoTest.setdouble_scalar_w(3.14);
+        tangoTest.getdouble_scalar();
+        assertEquals("Hi!", tangoTest.DevString("Hi!"));
+        assertEquals("Hi!", tangoTest.DevString("Hi!"));
+        assertEquals(tangoTest, tangoTest);
+        assertTrue(tangoTest.toString().startsWith(TangoTest.class.getName()));
+    }
+
+    @Test
+    public void testReadPrimitives() throws Exception {
+        instance.readDouble("double_scalar");
+        instance.readDouble("float_scalar");
+        instance.readLong("long64_scalar");
+        instance.readInt("long_scalar");
+        instance.readBoolean("boolean_scalar");
+
+        DoubleValueTime result = new DoubleValueTime();
+        assertSame(result, instance.readDouble("double_scalar", result));
+        assertTrue(result.getTime() > 0);
+    }
+
+    @Test(expected = ReadAttributeException.class)
+    public void testReadPrimitives_wrongType() throws Exception {
+        instance.readInt("string_scalar");
+    }
+
+    @Test
+    public void testReadAttributeInto() throws Exception {
+        //value changes on every read, cache it so that both reads return the same one
+        instance.setValueCacheMaxAge("double_spectrum_ro", 1, TimeUnit.MINUTES);
+        try {
+            double[] expected = instance.readAttribute("double_spectrum_ro");
+            double[] dst = new double[4096];
+
+            int length = instance.readAttributeInto("double_spectrum_ro", dst);
+
+            assertEquals(expected.length, length);
+            assertArrayEquals(expected, Arrays.copyOf(dst, length), 0.);
+        } finally {
+            instance.setValueCacheMaxAge("double_spectrum_ro", 0, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test(expected = ReadAttributeException.class)
+    public void testReadAttributeInto_tooSmall() throws Exception {
+        double[] expected = instance.readAttribute("double_spectrum_ro");
+        assertTrue(expected.length > 0);
+
+        instance.readAttributeInto("double_spectrum_ro", new double[expected.length - 1]);
+    }
+
+    @Test
+    public void testReadAttributeInto_image() throws Exception {
+        TangoImage<double[]> image = instance.readAttribute("double_image_ro");
+        TangoImage<double[]> dst = new TangoImage<double[]>(new double[image.getWidth() * image.getHeight()], image.getWidth(), image.getHeight());
+
+        assertSame(dst, instance.readAttributeInto("double_image_ro", dst));
+    }
+
+    @Test(expected = ReadAttributeException.class)
+    public void testReadAttributeInto_wrongType() throws Exception {
+        instance.readAttributeInto("double_spectrum_ro", new int[4096]);
+    }
+
+    @Test
+    public void testReadAttributeInto_directImage() throws Exception {
+        TangoImage<double[]> image = instance.readAttribute("double_image_ro");
+        DirectTangoImage dst = DirectTangoImage.allocate(double.class, image.getWidth(), image.getHeight());
+
+        assertSame(dst, instance.readAttributeInto("double_image_ro", dst));
+    }
+
+    @Test
+    public void testGetOrCreateDeviceProxyWrapper() throws Exception {
+        TangoProxy proxy = TangoProxies.getOrCreateDeviceProxyWrapper(TEST_TANGO);
+        try {
+            assertSame(proxy, TangoProxies.getOrCreateDeviceProxyWrapper(TEST_TANGO.toUpperCase()));
+            TangoProxies.releaseDeviceProxyWrapper(proxy);
+        } finally {
+            TangoProxies.releaseDeviceProxyWrapper(proxy);
+        }
+    }
+
+    @Test
+    public void testValueCache() throws Exception {
+        instance.setValueCacheMaxAge("double_scalar", 1, TimeUnit.MINUTES);
+        try {
+            ValueTime<Double> first = instance.readAttributeValueAndTime("double_scalar");
+            ValueTime<Double> second = instance.readAttributeValueAndTime("double_scalar");
+
+            assertEquals(first.getTime(), second.getTime());
+        } finally {
+            instance.setValueCacheMaxAge("double_scalar", 0, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    public void testTangoProxyGroup() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TangoProxyGroup group = new TangoProxyGroup(Arrays.asList(instance, TangoProxies.newDeviceProxyWrapper(TEST_TANGO)),
+                    executor, TangoProxyGroup.BY_SERVER);
+
+            List<GroupReply<Double>> result = group.readAttribute("double_scalar");
+
+            assertEquals(2, result.size());
+            assertFalse(result.get(0).hasFailed());
+            assertFalse(result.get(1).hasFailed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTangoSnapshotReader() throws Exception {
+        TangoSnapshotReader reader = new TangoSnapshotReader(
+                Collections.singletonMap(instance, Arrays.asList("double_scalar", "long_scalar")));
+
+        TangoSnapshot result = reader.read(3, TimeUnit.SECONDS);
+
+        assertTrue(result.isComplete());
+        assertFalse(result.get(instance.getName(), "double_scalar").hasFailed());
+        assertFalse(result.get(instance.getName(), "long_scalar").hasFailed());
+    }
+
+    @Test
+    public void testReadAttribute_timeout() throws Exception {
+        Double result = instance.readAttribute("double_scalar", 3, TimeUnit.SECONDS);
+
+        assertNotNull(result);
+    }
+
+    @Test
+    public void testExecuteCommand_timeout() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            //the only thread hangs, so the reply can not be converted
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                }
+            });
+            TangoProxy proxy = TangoProxies.newDeviceProxyWrapper(TEST_TANGO, executor);
+
+            try {
+                proxy.executeCommand("DevVoid", null, 100, TimeUnit.MILLISECONDS);
+                fail("TangoTimeoutException is expected");
+            } catch (TangoTimeoutException expected) {
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
 }
@@ -129,4 +129,9 @@ public class TangoDataFormatTest {
 
         Assert.assertEquals("Spectrum", instance.toString());
     }
+
+    @Test
+    public void testCreateForAttrDataFormat_Shared() {
+        assertSame(TangoDataFormat.createForAttrDataFormat(AttrDataFormat.IMAGE), TangoDataFormat.createForAttrDataFormat(AttrDataFormat.IMAGE));
+    }
 }
@@ -0,0 +1,66 @@
+package org.tango.client.ez.data.type;
+
+import org.junit.Test;
+
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.*;
+
+public class DirectTangoImageTest {
+    @Test
+    public void testCopyOf() throws Exception {
+        DirectTangoImage image = DirectTangoImage.copyOf(new TangoImage<float[]>(new float[]{1.f, 2.f, 3.f, 4.f, 5.f, 6.f}, 3, 2));
+
+        assertTrue(image.getBuffer().isDirect());
+        assertSame(float.class, image.getComponentType());
+        FloatBuffer view = image.asFloatBuffer();
+        assertEquals(6, view.remaining());
+        assertSame(ByteOrder.nativeOrder(), view.order());
+        assertEquals(4.f, view.get(3), 0.f);
+    }
+
+    @Test
+    public void testToTangoImage() throws Exception {
+        DirectTangoImage image = DirectTangoImage.copyOf(new TangoImage<short[]>(new short[]{1, 2, 3, 4}, 2, 2));
+
+        TangoImage<short[]> result = image.toTangoImage();
+
+        assertArrayEquals(new short[]{1, 2, 3, 4}, result.getData());
+        assertEquals(2, result.getWidth());
+        assertEquals(2, result.getHeight());
+    }
+
+    @Test
+    public void testCopyFrom_Refill() throws Exception {
+        DirectTangoImage image = DirectTangoImage.allocate(double.class, 2, 1);
+
+        image.copyFrom(new TangoImage<double[]>(new double[]{1., 2.}, 2, 1));
+        image.copyFrom(new TangoImage<double[]>(new double[]{3., 4.}, 2, 1));
+
+        assertArrayEquals(new double[]{3., 4.}, (double[]) image.copyTo(new double[2]), 0.);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCopyFrom_WrongType() throws Exception {
+        DirectTangoImage.allocate(double.class, 2, 1).copyFrom(new float[]{1.f, 2.f});
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAsIntBuffer_WrongType() throws Exception {
+        DirectTangoImage.allocate(float.class, 2, 2).asIntBuffer();
+    }
+
+    @Test
+    public void testPool_Reuse() throws Exception {
+        DirectTangoImagePool pool = new DirectTangoImagePool(1);
+        DirectTangoImage image = pool.acquire(int.class, 4, 4);
+        pool.release(image);
+
+        DirectTangoImage result = pool.acquire(float.class, 4, 4);
+
+        assertSame(image.getBuffer(), result.getBuffer());
+        assertSame(float.class, result.getComponentType());
+        assertNotSame(image.getBuffer(), pool.acquire(float.class, 4, 4).getBuffer());
+    }
+}
@@ -25,4 +25,35 @@ public class ScalarTangoDataTypesTest {
     public void test_getDataType() throws Exception {
         assertSame(int.class, ScalarTangoDataTypes.U_SHORT.getDataTypeClass());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_extractPrimitive() throws Exception {
+        TangoDataWrapper data = TangoDataWrapper.create(new DeviceAttribute("test", 3.14), null);
+        PrimitiveValueExtracter<Double> extracter = ((ScalarTangoDataTypes.ScalarTangoDataType<Double>) ScalarTangoDataTypes.DOUBLE).getPrimitiveExtracter();
+
+        assertEquals(3.14, extracter.extractDouble(data), 0.0);
+        assertEquals(Double.valueOf(3.14), extracter.extract(data));
+    }
+
+    @Test
+    public void test_extractPrimitive_widening() throws Exception {
+        TangoDataWrapper data = TangoDataWrapper.create(new DeviceAttribute("test", 42), null);
+        PrimitiveValueExtracter<Integer> extracter = ((ScalarTangoDataTypes.ScalarTangoDataType<Integer>) ScalarTangoDataTypes.INT).getPrimitiveExtracter();
+
+        assertEquals(42, extracter.extractInt(data));
+        assertEquals(42L, extracter.extractLong(data));
+        assertEquals(42., extracter.extractDouble(data), 0.0);
+    }
+
+    @Test(expected = ValueExtractionException.class)
+    public void test_extractPrimitive_lossy() throws Exception {
+        TangoDataWrapper data = TangoDataWrapper.create(new DeviceAttribute("test", 42L), null);
+
+        ((ScalarTangoDataTypes.ScalarTangoDataType<Long>) ScalarTangoDataTypes.LONG).getPrimitiveExtracter().extractInt(data);
+    }
+
+    @Test
+    public void test_getPrimitiveExtracter_string() throws Exception {
+        assertNull(((ScalarTangoDataTypes.ScalarTangoDataType<String>) ScalarTangoDataTypes.STRING).getPrimitiveExtracter());
+    }
+}
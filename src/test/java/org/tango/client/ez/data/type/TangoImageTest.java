@@ -31,6 +31,53 @@ public class TangoImageTest {
     }
 
 
+    @Test
+    public void testExtractInsert_Parallel() throws Exception {
+        String multithreading = System.setProperty(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING, "true");
+        try {
+            int dimX = 1024, dimY = TangoImage.PARALLEL_THRESHOLD / dimX * 4 + 3;
+            int[] data = new int[dimX * dimY];
+            for (int i = 0; i < data.length; i++) data[i] = i;
+
+            int[][] result = (int[][]) TangoImage.extract(data, dimX, dimY);
+
+            assertEquals(dimY, result.length);
+            assertEquals(dimX * (dimY - 1) + 5, result[dimY - 1][5]);
+            assertArrayEquals(data, TangoImage.<int[]>insert(result, dimX, dimY));
+        } finally {
+            if (multithreading == null)
+                System.clearProperty(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING);
+            else
+                System.setProperty(ImageTangoDataTypes.TANGO_IMAGE_EXTRACTER_USES_MULTITHREADING, multithreading);
+        }
+    }
+
+    @Test
+    public void testTo2DArray_Refill() throws Exception {
+        TangoImage<double[]> image = new TangoImage<double[]>(new double[]{1., 2., 3., 4., 5., 6.}, 3, 2);
+        double[][] dst = new double[2][3];
+
+        double[][] result = image.to2DArray(dst);
+
+        assertSame(dst, result);
+        assertArrayEquals(new double[]{1., 2., 3.}, result[0], 0.0);
+        assertArrayEquals(new double[]{4., 5., 6.}, result[1], 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTo2DArray_ShortRow() throws Exception {
+        TangoImage<double[]> image = new TangoImage<double[]>(new double[]{1., 2., 3., 4., 5., 6.}, 3, 2);
+
+        image.to2DArray(new double[][]{new double[3], new double[2]});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTo2DArray_MissingRow() throws Exception {
+        TangoImage<double[]> image = new TangoImage<double[]>(new double[]{1., 2., 3., 4., 5., 6.}, 3, 2);
+
+        image.to2DArray(new double[][]{new double[3], null});
+    }
+
     @Test
     public void testInsertHelper() throws Exception {
         Object result = TangoImage.insert(new double[][]{{0., 11., 0.}, {50.0, 0., 33.}, {0., 22., 0.}}, 3, 3);
@@ -0,0 +1,60 @@
+package org.tango.client.ez.data.type;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TangoImageViewTest {
+    //  0  1  2  3
+    //  4  5  6  7
+    //  8  9 10 11
+    private final TangoImage<int[]> image = new TangoImage<int[]>(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}, 4, 3);
+
+    @Test
+    public void testRow() throws Exception {
+        TangoImageView<int[]> row = image.row(1);
+
+        assertEquals(4, row.getWidth());
+        assertEquals(1, row.getHeight());
+        assertEquals(6L, row.getLong(2, 0));
+    }
+
+    @Test
+    public void testRoi() throws Exception {
+        TangoImageView<int[]> roi = image.roi(1, 1, 2, 2);
+
+        assertEquals(5L, roi.getLong(0, 0));
+        assertEquals(10L, roi.getLong(1, 1));
+        assertArrayEquals(new int[]{5, 6, 9, 10}, roi.toTangoImage().getData());
+    }
+
+    @Test
+    public void testRoi_WritesThrough() throws Exception {
+        image.roi(1, 1, 2, 2).setLong(1, 0, 42);
+
+        assertEquals(42, image.getData()[6]);
+    }
+
+    @Test
+    public void testTranspose() throws Exception {
+        TangoImageView<int[]> transposed = image.transpose();
+
+        assertEquals(3, transposed.getWidth());
+        assertEquals(4, transposed.getHeight());
+        assertEquals(7., transposed.getDouble(1, 3), 0.);
+
+        int[][] result = transposed.roi(0, 1, 3, 2).to2DArray();
+        assertArrayEquals(new int[]{1, 5, 9}, result[0]);
+        assertArrayEquals(new int[]{2, 6, 10}, result[1]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRoi_OutOfBounds() throws Exception {
+        image.roi(3, 0, 2, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndex_OutOfBounds() throws Exception {
+        image.roi(1, 1, 2, 2).index(2, 0);
+    }
+}
@@ -0,0 +1,192 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.TangoApi.DeviceAttribute;
+import org.junit.Test;
+import org.tango.client.ez.data.type.TangoImage;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class AttributeValueCacheTest {
+    private final AttributeValueCache instance = new AttributeValueCache("sys/tg_test/1");
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AttributeValueCache.DeviceRead read = () -> {
+        reads.incrementAndGet();
+        return mock(DeviceAttribute.class);
+    };
+
+    @Test
+    public void testRead_NotCached() throws Exception {
+        instance.read("double_scalar", read);
+        instance.read("double_scalar", read);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testRead_Cached() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+
+        DeviceAttribute result = instance.read("double_scalar", read);
+
+        assertSame(result, instance.read("double_scalar", read));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testRead_Expired() throws Exception {
+        instance.setMaxAge("double_scalar", 1L);
+        instance.read("double_scalar", read);
+        Thread.sleep(1);
+
+        instance.read("double_scalar", read);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testRead_Invalidated() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+        instance.read("double_scalar", read);
+
+        instance.invalidate("double_scalar");
+        instance.read("double_scalar", read);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testRead_InvalidatedWhileReading() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+
+        //write completes while the read is in progress, so the read value may predate it
+        instance.read("double_scalar", () -> {
+            instance.invalidate("double_scalar");
+            return read.read();
+        });
+        instance.read("double_scalar", read);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testRead_ClearedWhileReading() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+
+        instance.read("double_scalar", () -> {
+            instance.clear();
+            return read.read();
+        });
+        instance.read("double_scalar", read);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void testOffer() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+        DeviceAttribute event = mock(DeviceAttribute.class);
+
+        instance.offer("double_scalar", event);
+
+        assertSame(event, instance.read("double_scalar", read));
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void testOffer_Error() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+        instance.offer("double_scalar", mock(DeviceAttribute.class));
+
+        instance.offer("double_scalar", new Exception());
+        instance.read("double_scalar", read);
+
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testOffer_Failed() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+        instance.offer("double_scalar", mock(DeviceAttribute.class));
+        DeviceAttribute failed = mock(DeviceAttribute.class);
+        doReturn(true).when(failed).hasFailed();
+
+        instance.offer("double_scalar", failed);
+
+        assertNotSame(failed, instance.read("double_scalar", read));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testUnshare_Spectrum() throws Exception {
+        instance.setMaxAge("double_spectrum", TimeUnit.MINUTES.toNanos(1));
+        //extracter returns the array held by DeviceAttribute
+        double[] data = {1., 2.};
+
+        double[] first = instance.unshare(instance.read("double_spectrum", read), data);
+        double[] second = instance.unshare(instance.read("double_spectrum", read), data);
+        first[0] = -1.;
+
+        assertEquals(1, reads.get());
+        assertArrayEquals(new double[]{1., 2.}, second, 0.);
+        assertArrayEquals(new double[]{1., 2.}, data, 0.);
+    }
+
+    @Test
+    public void testUnshare_Image() throws Exception {
+        instance.setMaxAge("double_image", TimeUnit.MINUTES.toNanos(1));
+        TangoImage<double[]> data = new TangoImage<double[]>(new double[]{1., 2., 3., 4.}, 2, 2);
+
+        TangoImage<double[]> first = instance.unshare(instance.read("double_image", read), data);
+        first.roi(0, 0, 1, 1).setDouble(0, 0, -1.);
+        TangoImage<double[]> second = instance.unshare(instance.read("double_image", read), data);
+
+        assertEquals(2, second.getWidth());
+        assertArrayEquals(new double[]{1., 2., 3., 4.}, second.getData(), 0.);
+    }
+
+    @Test
+    public void testUnshare_NotCached() throws Exception {
+        double[] data = {1., 2.};
+
+        assertSame(data, instance.unshare(instance.read("double_spectrum", read), data));
+    }
+
+    @Test
+    public void testRead_Coalesced() throws Exception {
+        instance.setMaxAge("double_scalar", TimeUnit.MINUTES.toNanos(1));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AttributeValueCache.DeviceRead slowRead = () -> {
+            reads.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return mock(DeviceAttribute.class);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DeviceAttribute> first = executor.submit(() -> instance.read("double_scalar", slowRead));
+            started.await();
+            Future<DeviceAttribute> second = executor.submit(() -> instance.read("double_scalar", slowRead));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertSame(first.get(), second.get());
+            assertEquals(1, reads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.AsynReplyNotArrived;
+import fr.esrf.Tango.AttrDataFormat;
+import fr.esrf.TangoApi.AttributeInfoEx;
+import fr.esrf.TangoApi.CommandInfo;
+import fr.esrf.TangoApi.DeviceAttribute;
+import fr.esrf.TangoApi.DeviceProxy;
+import fr.esrf.TangoDs.TangoConst;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class DeviceProxyWrapperTest {
+    private static final String ATTR = "double_scalar";
+    private static final int REQUEST_ID = 1;
+
+    /**
+     * @param reply reply of read request, null if device never replies
+     */
+    private static DeviceProxy mockDevice(String name, DeviceAttribute reply) throws Exception {
+        DeviceProxy result = mock(DeviceProxy.class);
+        doReturn(name).when(result).name();
+        doReturn(name).when(result).get_name();
+
+        AttributeInfoEx info = mock(AttributeInfoEx.class);
+        info.name = ATTR;
+        info.data_format = AttrDataFormat.SCALAR;
+        info.data_type = TangoConst.Tango_DEV_DOUBLE;
+        doReturn(info).when(result).get_attribute_info_ex(ATTR);
+
+        doReturn(REQUEST_ID).when(result).read_attribute_asynch(ATTR);
+        if (reply == null) doThrow(new AsynReplyNotArrived()).when(result).read_attribute_reply(REQUEST_ID);
+        else doReturn(new DeviceAttribute[]{reply}).when(result).read_attribute_reply(REQUEST_ID);
+        return result;
+    }
+
+    private static DeviceAttribute newDoubleAttribute(double value) throws Exception {
+        DeviceAttribute result = mock(DeviceAttribute.class);
+        doReturn(TangoConst.Tango_DEV_DOUBLE).when(result).getType();
+        doReturn(value).when(result).extractDouble();
+        return result;
+    }
+
+    @Test
+    public void testPrefetchMetadata_CaseInsensitive() throws Exception {
+        DeviceProxy proxy = mockDevice("test/device/0", newDoubleAttribute(1.));
+        AttributeInfoEx info = mock(AttributeInfoEx.class);
+        info.name = "Double_Scalar";
+        info.data_format = AttrDataFormat.SCALAR;
+        info.data_type = TangoConst.Tango_DEV_DOUBLE;
+        doReturn(new AttributeInfoEx[]{info}).when(proxy).get_attribute_info_ex();
+        doReturn(new CommandInfo[0]).when(proxy).command_list_query();
+        DeviceProxyWrapper instance = new DeviceProxyWrapper(proxy);
+
+        instance.prefetchMetadata();
+
+        assertSame(info, instance.getAttributeInfo(ATTR).toAttributeInfoEx());
+        assertSame(info, instance.getAttributeInfo("DOUBLE_SCALAR").toAttributeInfoEx());
+        verify(proxy, never()).get_attribute_info_ex(anyString());
+    }
+
+    @Test
+    public void testReadAttribute_timeout_HungDeviceDoesNotDelayHealthy() throws Exception {
+        DeviceProxy hungProxy = mockDevice("test/hung/0", null);
+        DeviceProxyWrapper hung = new DeviceProxyWrapper(hungProxy);
+        DeviceProxyWrapper healthy = new DeviceProxyWrapper(mockDevice("test/healthy/0", newDoubleAttribute(1.)));
+
+        //more requests in flight than threads of the default executor
+        List<CompletableFuture<Double>> hungCalls = new ArrayList<CompletableFuture<Double>>();
+        for (int i = 0; i < 100; ++i) hungCalls.add(hung.<Double>readAttributeAsync(ATTR));
+        try {
+            for (int i = 0; i < 10; ++i) {
+                try {
+                    hung.readAttribute(ATTR, 10, TimeUnit.MILLISECONDS);
+                    fail("TangoTimeoutException is expected");
+                } catch (TangoTimeoutException expected) {
+                }
+                assertEquals(1., healthy.<Double>readAttribute(ATTR, 1, TimeUnit.SECONDS), 0.);
+            }
+
+            //timed out requests are dropped on the Tango side
+            verify(hungProxy, timeout(1000).atLeast(10)).cancel_asynch_request(REQUEST_ID);
+            for (CompletableFuture<Double> call : hungCalls) assertFalse(call.isDone());
+        } finally {
+            for (CompletableFuture<Double> call : hungCalls) call.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.TangoApi.DeviceAttribute;
+import fr.esrf.TangoApi.events.TangoChangeEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public class LatestEventSlotTest {
+    private static final String ATTR = "double_scalar";
+
+    private final TangoEventDispatcher<Double> dispatcher = new TangoEventDispatcher<Double>();
+    private final LatestEventSlot<Double> instance = new LatestEventSlot<Double>("test/device/0", ATTR, dispatcher);
+
+    @Before
+    public void before() throws Exception {
+        dispatcher.addSlot(instance);
+    }
+
+    private void dispatchError() throws Exception {
+        TangoChangeEvent event = mock(TangoChangeEvent.class);
+        doThrow(new DevFailed()).when(event).getValue();
+        dispatcher.change(event);
+    }
+
+    @Test
+    public void testPoll_NoEvent() throws Exception {
+        assertFalse(instance.hasEvent());
+        assertNull(instance.poll());
+    }
+
+    @Test
+    public void testPoll_Conflated() throws Exception {
+        for (int i = 1; i <= 3; ++i) dispatcher.dispatch(new DeviceAttribute(ATTR, (double) i));
+
+        assertTrue(instance.hasEvent());
+        assertEquals(3., instance.poll().getValue(), 0.);
+        //missed events are dropped, not queued
+        assertFalse(instance.hasEvent());
+        assertNull(instance.poll());
+    }
+
+    @Test
+    public void testPoll_LastValueWinsOverError() throws Exception {
+        dispatchError();
+        dispatcher.dispatch(new DeviceAttribute(ATTR, 4.));
+
+        assertEquals(4., instance.poll().getValue(), 0.);
+    }
+
+    @Test
+    public void testPoll_Error() throws Exception {
+        dispatcher.dispatch(new DeviceAttribute(ATTR, 1.));
+        dispatchError();
+
+        assertTrue(instance.hasEvent());
+        try {
+            instance.poll();
+            fail("ReadAttributeException is expected");
+        } catch (ReadAttributeException expected) {
+        }
+        assertNull(instance.poll());
+
+        dispatcher.dispatch(new DeviceAttribute(ATTR, 2.));
+        assertEquals(2., instance.poll().getValue(), 0.);
+    }
+}
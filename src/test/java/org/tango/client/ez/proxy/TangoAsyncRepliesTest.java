@@ -0,0 +1,72 @@
+package org.tango.client.ez.proxy;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class TangoAsyncRepliesTest {
+    private final TangoAsyncReplies instance = new TangoAsyncReplies(100, TimeUnit.MICROSECONDS);
+
+    private static final class FakeRequest implements TangoAsyncReplies.Request<String> {
+        final AtomicInteger polls = new AtomicInteger();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final int arrivesAfter;
+
+        FakeRequest(int arrivesAfter) {
+            this.arrivesAfter = arrivesAfter;
+        }
+
+        @Override
+        public String poll() {
+            return polls.incrementAndGet() > arrivesAfter ? "reply" : null;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        FakeRequest request = new FakeRequest(3);
+
+        assertEquals("reply", instance.add(request).get(1, TimeUnit.SECONDS));
+        assertFalse(request.cancelled.get());
+    }
+
+    @Test
+    public void testAdd_HungDoesNotDelayOthers() throws Exception {
+        FakeRequest hung = new FakeRequest(Integer.MAX_VALUE);
+        CompletableFuture<String> hungReply = instance.add(hung, 200, TimeUnit.MILLISECONDS);
+
+        assertEquals("reply", instance.add(new FakeRequest(1)).get(100, TimeUnit.MILLISECONDS));
+        try {
+            hungReply.get(1, TimeUnit.SECONDS);
+            fail("TimeoutException is expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(hung.cancelled.get());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        FakeRequest hung = new FakeRequest(Integer.MAX_VALUE);
+        CompletableFuture<String> reply = instance.add(hung);
+
+        reply.cancel(false);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (instance.size() > 0 && System.nanoTime() < deadline) Thread.sleep(1);
+
+        assertEquals(0, instance.size());
+        assertTrue(hung.cancelled.get());
+    }
+}
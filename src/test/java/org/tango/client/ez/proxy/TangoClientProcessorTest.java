@@ -0,0 +1,72 @@
+package org.tango.client.ez.proxy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TangoClientProcessorTest {
+    @TangoClient
+    public interface Motor {
+        double getPosition();
+
+        boolean isMoving() throws TangoProxyException;
+
+        void setPosition(double value);
+
+        void Stop();
+
+        String Status(int level) throws ExecuteCommandException, NoSuchCommandException;
+    }
+
+    private TangoProxy proxy;
+    private Motor instance;
+
+    @Before
+    public void before() throws Exception {
+        proxy = mock(TangoProxy.class);
+        instance = TangoProxies.newTangoClient(proxy, Motor.class);
+    }
+
+    @Test
+    public void testGetClientClassName() throws Exception {
+        assertEquals("org.vendor.Outer_Device_TangoClient", TangoClientNaming.getClientClassName("org.vendor.Outer$Device"));
+        assertEquals("Device_TangoClient", TangoClientNaming.getClientClassName("Device"));
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        when(proxy.readDouble("Position")).thenReturn(3.14);
+        when(proxy.readBoolean("Moving")).thenReturn(true);
+
+        assertEquals(3.14, instance.getPosition(), 0.0);
+        assertTrue(instance.isMoving());
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        instance.setPosition(2.71);
+
+        verify(proxy).writeAttribute("Position", 2.71);
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        when(proxy.<Object, Object>executeCommand("Status", 1)).thenReturn("ON");
+
+        instance.Stop();
+
+        verify(proxy).executeCommand("Stop");
+        assertEquals("ON", instance.Status(1));
+    }
+
+    @Test(expected = UndeclaredThrowableException.class)
+    public void testUndeclaredException() throws Exception {
+        when(proxy.readDouble("Position")).thenThrow(new NoSuchAttributeException());
+
+        instance.getPosition();
+    }
+}
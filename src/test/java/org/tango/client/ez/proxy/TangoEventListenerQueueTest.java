@@ -0,0 +1,145 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.TangoApi.events.TangoChangeEvent;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public class TangoEventListenerQueueTest {
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final List<Integer> received = new ArrayList<>();
+    private final TangoEventListener<Integer> listener = new TangoEventListener<Integer>() {
+        @Override
+        public void onEvent(EventData<Integer> data) {
+            received.add(data.getValue());
+        }
+
+        @Override
+        public void onError(Exception cause) {
+            received.add(-1);
+        }
+    };
+
+    private TangoEventListenerQueue<Integer> newInstance(int capacity, EventOverflowPolicy policy) {
+        return new TangoEventListenerQueue<>(new WeakReference<>(listener), executor, capacity, policy);
+    }
+
+    private void offer(TangoEventListenerQueue<Integer> instance, int... values) {
+        for (int value : values) {
+            instance.offerEvent(new EventData<>(value, 0L, null));
+        }
+    }
+
+    private void runTasks() {
+        List<Runnable> copy = new ArrayList<>(tasks);
+        tasks.clear();
+        for (Runnable task : copy) task.run();
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        TangoEventListenerQueue<Integer> instance = newInstance(2, EventOverflowPolicy.DROP_OLDEST);
+
+        offer(instance, 1, 2, 3);
+        runTasks();
+
+        assertEquals(List.of(2, 3), received);
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        TangoEventListenerQueue<Integer> instance = newInstance(2, EventOverflowPolicy.DROP_NEWEST);
+
+        offer(instance, 1, 2, 3);
+        runTasks();
+
+        assertEquals(List.of(1, 2), received);
+    }
+
+    @Test
+    public void testConflate() throws Exception {
+        TangoEventListenerQueue<Integer> instance = newInstance(16, EventOverflowPolicy.CONFLATE);
+
+        offer(instance, 1, 2, 3);
+        instance.offerError(new Exception());
+        offer(instance, 4);
+        runTasks();
+
+        assertEquals(List.of(4), received);
+    }
+
+    @Test
+    public void testSingleDrainTask() throws Exception {
+        TangoEventListenerQueue<Integer> instance = newInstance(16, EventOverflowPolicy.BLOCK);
+
+        offer(instance, 1, 2);
+
+        assertEquals(1, tasks.size());
+        runTasks();
+        offer(instance, 3);
+        runTasks();
+
+        assertEquals(List.of(1, 2, 3), received);
+    }
+
+    @Test(timeout = 1000)
+    public void testBlock_RejectedDeliveryReleasesOffer() throws Exception {
+        TangoEventListenerQueue<Integer> instance = new TangoEventListenerQueue<>(new WeakReference<>(listener), command -> {
+            throw new RejectedExecutionException();
+        }, 1, EventOverflowPolicy.BLOCK);
+
+        //the second offer would wait forever for the event that is never drained
+        offer(instance, 1, 2);
+
+        assertEquals(List.of(), received);
+    }
+
+    @Test(timeout = 1000)
+    public void testClose_ReleasesBlockedOffer() throws Exception {
+        TangoEventListenerQueue<Integer> instance = newInstance(1, EventOverflowPolicy.BLOCK);
+        offer(instance, 1);
+
+        Thread blocked = startBlocked(() -> offer(instance, 2));
+        instance.close();
+        blocked.join();
+        runTasks();
+
+        assertEquals(List.of(), received);
+    }
+
+    @Test(timeout = 1000)
+    public void testRemoveListener_ReleasesBlockedOffer() throws Exception {
+        TangoEventDispatcher<Integer> dispatcher = new TangoEventDispatcher<>();
+        dispatcher.addListener(listener, executor, 1, EventOverflowPolicy.BLOCK);
+        TangoChangeEvent event = mock(TangoChangeEvent.class);
+        doThrow(new DevFailed()).when(event).getValue();
+        dispatcher.change(event);
+
+        Thread blocked = startBlocked(() -> dispatcher.change(event));
+        dispatcher.removeListener(listener);
+        blocked.join();
+        runTasks();
+
+        assertEquals(List.of(), received);
+    }
+
+    /**
+     * @return started thread once it waits
+     */
+    private static Thread startBlocked(Runnable task) throws InterruptedException {
+        Thread result = new Thread(task);
+        result.start();
+        while (result.getState() != Thread.State.WAITING) Thread.sleep(1);
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.AttrDataFormat;
+import fr.esrf.TangoApi.AttributeInfoEx;
+import fr.esrf.TangoApi.CommandInfo;
+import fr.esrf.TangoDs.TangoConst;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objenesis.ObjenesisStd;
+
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class TangoMetadataCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLoad_NoFile() throws Exception {
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath());
+
+        assertNull(instance.load("sys/tg_test/1"));
+    }
+
+    @Test
+    public void testLoad_CorruptedFile() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("sys_tg_test_1.metadata");
+        Files.write(file, new byte[]{1, 2, 3});
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath());
+
+        assertNull(instance.load("sys/tg_test/1"));
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("sys_tg_test_1.metadata");
+        Files.write(file, new byte[]{1, 2, 3});
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath());
+
+        instance.invalidate("sys/tg_test/1");
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testStore_Load() throws Exception {
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath());
+
+        instance.store("sys/tg_test/1",
+                Collections.singleton(new TangoAttributeInfoWrapper(newAttributeInfo("double_scalar"))),
+                Collections.singleton(new TangoCommandInfoWrapper(newCommandInfo("DevDouble"))));
+        TangoMetadataCache.Metadata result = instance.load("sys/tg_test/1");
+
+        assertEquals(1, result.attributes.length);
+        assertEquals("double_scalar", result.attributes[0].name);
+        assertEquals(AttrDataFormat._SCALAR, result.attributes[0].data_format.value());
+        assertEquals(TangoConst.Tango_DEV_DOUBLE, result.attributes[0].data_type);
+        assertEquals(1, result.commands.length);
+        assertEquals("DevDouble", result.commands[0].cmd_name);
+        assertEquals(TangoConst.Tango_DEV_DOUBLE, result.commands[0].in_type);
+        assertEquals(TangoConst.Tango_DEV_DOUBLE, result.commands[0].out_type);
+    }
+
+    @Test
+    public void testLoad_UnexpectedClassIsRejected() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("sys_tg_test_1.metadata");
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(1);
+            out.writeUTF("sys/tg_test/1");
+            out.writeObject(new ArrayList<Object>());
+            out.writeObject(new CommandInfo[0]);
+        }
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath());
+
+        assertNull(instance.load("sys/tg_test/1"));
+    }
+
+    @Test
+    public void testStoreLater_Coalesced() throws Exception {
+        TangoMetadataCache instance = new TangoMetadataCache(folder.getRoot().toPath(), 1, TimeUnit.HOURS);
+        Collection<TangoAttributeInfoWrapper> attributes = new ArrayList<TangoAttributeInfoWrapper>();
+        Collection<TangoCommandInfoWrapper> commands = new ArrayList<TangoCommandInfoWrapper>();
+
+        instance.storeLater("sys/tg_test/1", attributes, commands);
+        attributes.add(new TangoAttributeInfoWrapper(newAttributeInfo("double_scalar")));
+        instance.storeLater("sys/tg_test/1", attributes, commands);
+
+        assertNull(instance.load("sys/tg_test/1"));
+        instance.flush();
+        assertEquals(1, instance.load("sys/tg_test/1").attributes.length);
+    }
+
+    private static AttributeInfoEx newAttributeInfo(String name) {
+        AttributeInfoEx result = (AttributeInfoEx) new ObjenesisStd().newInstance(AttributeInfoEx.class);
+        result.name = name;
+        result.data_format = AttrDataFormat.SCALAR;
+        result.data_type = TangoConst.Tango_DEV_DOUBLE;
+        return result;
+    }
+
+    private static CommandInfo newCommandInfo(String name) {
+        CommandInfo result = (CommandInfo) new ObjenesisStd().newInstance(CommandInfo.class);
+        result.cmd_name = name;
+        result.in_type = TangoConst.Tango_DEV_DOUBLE;
+        result.out_type = TangoConst.Tango_DEV_DOUBLE;
+        return result;
+    }
+}
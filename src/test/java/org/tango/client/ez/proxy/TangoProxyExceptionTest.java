@@ -1,10 +1,21 @@
 package org.tango.client.ez.proxy;
 
+import fr.esrf.Tango.DevError;
+import fr.esrf.Tango.DevFailed;
+import fr.esrf.Tango.ErrSeverity;
 import fr.esrf.TangoApi.ConnectionFailed;
 import fr.esrf.TangoDs.Except;
+import org.junit.After;
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 public class TangoProxyExceptionTest {
+    @After
+    public void tearDown() {
+        System.clearProperty(TangoProxyException.TANGO_PROXY_EXCEPTION_STACKLESS);
+    }
+
     @Test
     public void test_createFromConnectionFailed() {
         try {
@@ -16,4 +27,36 @@ public class TangoProxyExceptionTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void test_stackless() {
+        System.setProperty(TangoProxyException.TANGO_PROXY_EXCEPTION_STACKLESS, "true");
+
+        ReadAttributeException result = new ReadAttributeException("sys/tg_test/1", "double_scalar", new ReadAttributeException("sys/tg_test/1", "double_scalar", "msg"));
+
+        assertEquals(0, result.getStackTrace().length);
+        assertEquals("", result.origin);
+        assertSame(NoSuchAttributeException.newInstance(), NoSuchAttributeException.newInstance());
+        assertSame(NoSuchCommandException.newInstance(), NoSuchCommandException.newInstance());
+        assertEquals(0, NoSuchAttributeException.newInstance().getStackTrace().length);
+    }
+
+    @Test
+    public void test_withStackTrace() {
+        ReadAttributeException result = new ReadAttributeException("sys/tg_test/1", "double_scalar", "msg");
+
+        assertTrue(result.getStackTrace().length > 0);
+        assertNotSame(NoSuchAttributeException.newInstance(), NoSuchAttributeException.newInstance());
+    }
+
+    @Test
+    public void test_isTimeout() {
+        DevFailed timeout = new DevFailed(new DevError[]{
+                new DevError("API_CommunicationFailed", ErrSeverity.ERR, "desc", "origin"),
+                new DevError(TangoTimeoutException.API_DEVICE_TIMED_OUT, ErrSeverity.ERR, "desc", "origin")});
+        DevFailed other = new DevFailed(new DevError[]{new DevError("API_AttrNotFound", ErrSeverity.ERR, "desc", "origin")});
+
+        assertTrue(TangoTimeoutException.isTimeout(timeout));
+        assertFalse(TangoTimeoutException.isTimeout(other));
+        assertFalse(TangoTimeoutException.isTimeout(null));
+    }
+}
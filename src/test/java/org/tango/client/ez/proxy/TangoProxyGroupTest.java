@@ -0,0 +1,90 @@
+package org.tango.client.ez.proxy;
+
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TangoProxyGroupTest {
+    @Test
+    public void testReadAttribute() throws Exception {
+        TangoProxy first = mock(TangoProxy.class);
+        TangoProxy second = mock(TangoProxy.class);
+        doReturn(1.).when(first).readAttribute("position");
+        doThrow(new ReadAttributeException("motor/2", "position", "Motor is off")).when(second).readAttribute("position");
+
+        List<GroupReply<Double>> result = new TangoProxyGroup(Arrays.asList(first, second)).readAttribute("position");
+
+        assertEquals(2, result.size());
+        assertSame(first, result.get(0).getProxy());
+        assertEquals(1., result.get(0).get(), 0.);
+        assertTrue(result.get(1).hasFailed());
+        assertTrue(result.get(1).getFailure() instanceof ReadAttributeException);
+    }
+
+    @Test
+    public void testWriteAttribute_Partitioned() throws Exception {
+        final TangoProxy first = mock(TangoProxy.class);
+        TangoProxy second = mock(TangoProxy.class);
+        TangoProxy third = mock(TangoProxy.class);
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch othersStarted = new CountDownLatch(1);
+        final AtomicBoolean partitionsConcurrent = new AtomicBoolean(true);
+        final AtomicInteger othersInFlight = new AtomicInteger();
+        final AtomicInteger othersMaxInFlight = new AtomicInteger();
+        //each partition waits for the other one, so that sequential partitions time out
+        doAnswer(invocation -> {
+            firstStarted.countDown();
+            if (!othersStarted.await(1, TimeUnit.SECONDS)) partitionsConcurrent.set(false);
+            return null;
+        }).when(first).writeAttribute("position", 0.);
+        Answer<Object> other = invocation -> {
+            othersMaxInFlight.accumulateAndGet(othersInFlight.incrementAndGet(), Math::max);
+            othersStarted.countDown();
+            if (!firstStarted.await(1, TimeUnit.SECONDS)) partitionsConcurrent.set(false);
+            Thread.sleep(50);//gives an overlapping call of the same partition a chance to show up
+            othersInFlight.decrementAndGet();
+            return null;
+        };
+        doAnswer(other).when(second).writeAttribute("position", 0.);
+        doAnswer(other).when(third).writeAttribute("position", 0.);
+        //enough threads to run every device at once if partitions were ignored
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            TangoProxyGroup instance = new TangoProxyGroup(Arrays.asList(first, second, third), executor,
+                    proxy -> proxy == first ? "server/1" : "server/2");
+
+            List<GroupReply<Void>> result = instance.writeAttribute("position", 0.);
+
+            for (GroupReply<Void> reply : result) assertFalse(reply.hasFailed());
+            verify(first).writeAttribute("position", 0.);
+            verify(second).writeAttribute("position", 0.);
+            verify(third).writeAttribute("position", 0.);
+            assertTrue("partitions must run concurrently", partitionsConcurrent.get());
+            assertEquals("calls within a partition must not overlap", 1, othersMaxInFlight.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInvokeAsync_Rejected() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        TangoProxyGroup instance = new TangoProxyGroup(Arrays.asList(mock(TangoProxy.class)), executor);
+
+        List<GroupReply<Object>> result = instance.invokeAsync(proxy -> proxy.readAttribute("position")).get(1, TimeUnit.SECONDS);
+
+        assertTrue(result.get(0).hasFailed());
+    }
+}
@@ -0,0 +1,70 @@
+package org.tango.client.ez.proxy;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class TangoProxyRegistryTest {
+    private final AtomicInteger created = new AtomicInteger();
+    private final TangoProxyRegistry.ProxyFactory factory = url -> {
+        created.incrementAndGet();
+        return mock(TangoProxy.class);
+    };
+
+    @Test
+    public void testAcquire_Shared() throws Exception {
+        TangoProxyRegistry instance = new TangoProxyRegistry(60000L, factory);
+
+        TangoProxy proxy = instance.acquire("tango://host:10000/sys/tg_test/1");
+
+        assertSame(proxy, instance.acquire("//HOST:10000/Sys/Tg_Test/1"));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testRelease_KeptWhileReferenced() throws Exception {
+        TangoProxyRegistry instance = new TangoProxyRegistry(0L, factory);
+        TangoProxy proxy = instance.acquire("//host:10000/sys/tg_test/1");
+        instance.acquire("//host:10000/sys/tg_test/1");
+
+        instance.release(proxy);
+
+        assertEquals(1, instance.size());
+        assertSame(proxy, instance.acquire("//host:10000/sys/tg_test/1"));
+    }
+
+    @Test
+    public void testRelease_Evicted() throws Exception {
+        TangoProxyRegistry instance = new TangoProxyRegistry(0L, factory);
+        TangoProxy proxy = instance.acquire("//host:10000/sys/tg_test/1");
+
+        instance.release(proxy);
+
+        assertEquals(0, instance.size());
+        assertNotSame(proxy, instance.acquire("//host:10000/sys/tg_test/1"));
+        assertEquals(2, created.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRelease_NotRegistered() throws Exception {
+        new TangoProxyRegistry(0L, factory).release(mock(TangoProxy.class));
+    }
+
+    @Test
+    public void testAcquire_FailedCreationIsNotCached() throws Exception {
+        TangoProxyRegistry instance = new TangoProxyRegistry(0L, url -> {
+            throw new TangoProxyException(url, "Device is not exported");
+        });
+
+        try {
+            instance.acquire("//host:10000/sys/tg_test/1");
+            fail();
+        } catch (TangoProxyException expected) {
+        }
+
+        assertEquals(0, instance.size());
+    }
+}
@@ -0,0 +1,92 @@
+package org.tango.client.ez.proxy;
+
+import fr.esrf.Tango.AttrQuality;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TangoSnapshotReaderTest {
+    private static TangoProxy mockDevice(String name, long time, String... attrNames) throws Exception {
+        TangoProxy result = mock(TangoProxy.class);
+        doReturn(name).when(result).getName();
+        Map<String, ReadAttributeResult<ValueTimeQuality<Object>>> values = new LinkedHashMap<String, ReadAttributeResult<ValueTimeQuality<Object>>>();
+        for (String attrName : attrNames)
+            values.put(attrName, ReadAttributeResult.<ValueTimeQuality<Object>>success(attrName, new ValueTimeQuality<Object>(1., time, AttrQuality.ATTR_VALID)));
+        doReturn(CompletableFuture.completedFuture(values)).when(result).readAttributesValueTimeQualityAsync(attrNames);
+        return result;
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        Map<TangoProxy, Collection<String>> attributes = new LinkedHashMap<TangoProxy, Collection<String>>();
+        attributes.put(mockDevice("motor/1", 1000L, "position", "velocity"), Arrays.asList("position", "velocity"));
+        attributes.put(mockDevice("motor/2", 1005L, "position"), Collections.singletonList("position"));
+
+        TangoSnapshot result = new TangoSnapshotReader(attributes).read();
+
+        assertTrue(result.isComplete());
+        assertEquals(5L, result.getTimeSkew());
+        assertEquals(1., result.<Double>get("motor/1", "velocity").get().value, 0.);
+        assertEquals(1005L, result.<Double>get("motor/2", "position").get().time);
+    }
+
+    @Test
+    public void testRead_DeviceFailure() throws Exception {
+        TangoProxy device = mock(TangoProxy.class);
+        doReturn("motor/1").when(device).getName();
+        CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> read = new CompletableFuture<>();
+        read.completeExceptionally(new ReadAttributeException("motor/1", "position", "Device is not exported"));
+        doReturn(read).when(device).readAttributesValueTimeQualityAsync("position");
+
+        TangoSnapshot result = new TangoSnapshotReader(Collections.singletonMap(device, Collections.singletonList("position"))).read();
+
+        assertTrue(result.isComplete());
+        assertTrue(result.get("motor/1", "position").hasFailed());
+        assertEquals(0L, result.getTimeSkew());
+    }
+
+    @Test
+    public void testRead_Deadline() throws Exception {
+        TangoProxy hung = mock(TangoProxy.class);
+        doReturn("motor/2").when(hung).getName();
+        CompletableFuture<Map<String, ReadAttributeResult<ValueTimeQuality<Object>>>> hungRead = new CompletableFuture<>();
+        doReturn(hungRead).when(hung).readAttributesValueTimeQualityAsync("position");
+        Map<TangoProxy, Collection<String>> attributes = new LinkedHashMap<TangoProxy, Collection<String>>();
+        attributes.put(mockDevice("motor/1", 1000L, "position"), Collections.singletonList("position"));
+        attributes.put(hung, Collections.singletonList("position"));
+
+        TangoSnapshot result = new TangoSnapshotReader(attributes).read(100, TimeUnit.MILLISECONDS);
+
+        assertFalse(result.isComplete());
+        assertFalse(result.get("motor/1", "position").hasFailed());
+        assertTrue(result.get("motor/2", "position").hasFailed());
+        //request of the hung device is dropped
+        assertTrue(hungRead.isCancelled());
+    }
+
+    @Test
+    public void testRead_AllDevicesAtOnce() throws Exception {
+        Map<TangoProxy, Collection<String>> attributes = new LinkedHashMap<TangoProxy, Collection<String>>();
+        //more devices than threads of any pool, none of them replies in time
+        for (int i = 0; i < 100; ++i) {
+            TangoProxy device = mock(TangoProxy.class);
+            doReturn("motor/" + i).when(device).getName();
+            doReturn(new CompletableFuture<Object>()).when(device).readAttributesValueTimeQualityAsync("position");
+            attributes.put(device, Collections.singletonList("position"));
+        }
+
+        new TangoSnapshotReader(attributes).read(10, TimeUnit.MILLISECONDS);
+
+        //every request has been sent before waiting
+        for (TangoProxy device : attributes.keySet()) verify(device).readAttributesValueTimeQualityAsync("position");
+    }
+}
@@ -55,6 +55,19 @@ public class TangoUtilsTest {
         assertTrue(result.origin.startsWith("[app//org.tango.client.ez.util.TangoUtilsTest.testCreateDevError_StringReason"));
     }
 
+    @Test
+    public void testCreateDevError_StringReason_NoOrigin() throws Exception {
+        System.setProperty(TangoUtils.TANGO_DEV_ERROR_CAPTURES_ORIGIN, "false");
+        try {
+            DevError result = TangoUtils.createDevError("Test reason", "failed due testing");
+
+            assertEquals("Test reason", result.reason);
+            assertEquals("", result.origin);
+        } finally {
+            System.clearProperty(TangoUtils.TANGO_DEV_ERROR_CAPTURES_ORIGIN);
+        }
+    }
+
     @Test
     public void testCreateDevError_ThrowableReason() throws Exception {
         Throwable exception = new Exception("Ooops!", new Exception("failed due testing"));